@@ -5,8 +5,29 @@ public class RedisKeyConstants { // Redis Key 상수
     //비밀번호,OTP 입력 실패 카운트 - 1~5, locked
     public static final String FAILURE_PREFIX = "auth:failure:";
 
+    //비밀번호 확인 완료 표시 (TOTP 사용자 토큰 발급 전 1회 사용, TTL = OTP 유효 시간)
+    public static final String PASSWORD_VERIFIED_PREFIX = "auth:password-verified:";
+
+    //사용된 TOTP 시간 단계 (totp:used:{memberId}:{step}, TTL = 허용 오차 + 1단계)
+    public static final String TOTP_USED_PREFIX = "totp:used:";
+
     //리프레시 토큰 검증
     public static final String REFRESH_TOKEN_PREFIX = "token:refresh:";
 
+    //재발급된 Access 토큰 재사용 (Refresh 토큰 해시 기준, 짧은 TTL)
+    public static final String REISSUED_TOKEN_PREFIX = "token:reissued:";
+
+    //OTP (otp.store=redis 인 경우, TTL = 만료 시간)
+    public static final String OTP_PREFIX = "otp:";
+
+    //회원 정보 캐시 무효화 채널 (pub/sub)
+    public static final String MEMBER_INVALIDATION_CHANNEL = "channel:member:invalidate";
+
+    //앱 버전 변경 채널 (pub/sub)
+    public static final String APP_VERSION_CHANNEL = "channel:appversion:invalidate";
+
+    //가입 계정/이메일 필터 추가 채널 (pub/sub)
+    public static final String MEMBER_EXISTENCE_CHANNEL = "channel:member:existence";
+
     private RedisKeyConstants() {}
 }
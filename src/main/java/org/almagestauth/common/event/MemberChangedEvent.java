@@ -0,0 +1,17 @@
+package org.almagestauth.common.event;
+
+/**
+ * 회원 정보 변경 이벤트.
+ * 사용자 정보 캐시 무효화에 사용 (탈퇴, 정보/비밀번호/이메일 변경, 사용승인)
+ */
+public class MemberChangedEvent {
+    private final String memberId;
+
+    public MemberChangedEvent(String memberId) {
+        this.memberId = memberId;
+    }
+
+    public String getMemberId() {
+        return memberId;
+    }
+}
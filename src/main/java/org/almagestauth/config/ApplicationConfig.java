@@ -1,7 +1,7 @@
 package org.almagestauth.config;
 
 import lombok.RequiredArgsConstructor;
-import org.almagestauth.utils.encoder.Bcrypt;
+import org.almagestauth.utils.encoder.AdaptivePasswordEncoder;
 import org.almagestauth.domain.repository.MemberRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,7 +21,7 @@ public class ApplicationConfig {
    * */
 
   private final MemberRepository memberRepository;
-  private final Bcrypt bcrypt;
+  private final AdaptivePasswordEncoder passwordEncoder;
 
   @Bean
   public UserDetailsService userDetailsService() {
@@ -33,7 +33,7 @@ public class ApplicationConfig {
   public AuthenticationProvider authenticationProvider() {
     DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
     authProvider.setUserDetailsService(userDetailsService());
-    authProvider.setPasswordEncoder(bcrypt);
+    authProvider.setPasswordEncoder(passwordEncoder);
     return authProvider;
   }
 
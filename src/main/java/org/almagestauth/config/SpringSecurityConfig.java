@@ -23,6 +23,8 @@ public class SpringSecurityConfig {
 
     private static final String[] PUBLIC_API_URL = {"/api/a1/**", "/v3/api-docs/**", "/swagger-ui/**" }; // 인증 없이도 접근 가능한 경로
     private static final String ADMIN_API_URL = "/admin/**"; // 관리자만 접근 가능한 경로
+    private static final String HEALTH_URL = "/actuator/health/**"; // 상태 확인 (인증 없이 접근 가능)
+    private static final String ACTUATOR_URL = "/actuator/**"; // 관리용 Actuator 엔드포인트 (서명 키 재로드, 앱 버전 등록 등)
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception{
@@ -31,6 +33,8 @@ public class SpringSecurityConfig {
                 .cors(cors -> cors.configurationSource(CorsConfig.corsConfigurationSource())) // CORS 설정
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // Stateless 설정
                 .authorizeHttpRequests(auth -> auth
+                                .requestMatchers("/actuator/health", HEALTH_URL).permitAll()
+                                .requestMatchers(ACTUATOR_URL).hasRole("ADMIN")
                                 .anyRequest().permitAll()
 //                        .requestMatchers(PUBLIC_API_URL).permitAll()
 //                        .requestMatchers("/api/a2/**").hasAnyRole("USER", "ADMIN")
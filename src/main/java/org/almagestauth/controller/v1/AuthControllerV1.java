@@ -13,11 +13,17 @@ import org.almagestauth.security.authentication.CustomUserDetails;
 import org.almagestauth.security.authentication.JwtProvider;
 import org.almagestauth.service.*;
 import org.almagestauth.utils.RedisService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
 
 
 @RestController
@@ -31,6 +37,10 @@ public class AuthControllerV1 {
     private final RedisService redisService;
     private final AppVersionService appVersionService;
 
+    // 앱 버전 응답 캐시 시간
+    @Value("${app-version.max-age-seconds:60}")
+    private long appVersionMaxAge;
+
 
     //aws 로드밸런서 상태체크용
     @GetMapping("/aws/check")
@@ -40,11 +50,25 @@ public class AuthControllerV1 {
 
     //App 버전 확인
     @GetMapping("/app/version")
-    public ResponseEntity<?> appVersion() {
-        MobileAppVersion appversion = appVersionService.getAppversion();
+    public ResponseEntity<?> appVersion(WebRequest webRequest) {
+        AppVersionService.Snapshot snapshot = appVersionService.getSnapshot();
+        CacheControl cacheControl = CacheControl.maxAge(appVersionMaxAge, TimeUnit.SECONDS).cachePublic();
+
+        // 클라이언트 버전이 최신이면 304 (If-None-Match의 약한 ETag, 목록, * 비교는 Spring에 위임)
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        MobileAppVersion appversion = snapshot.version();
         InfoResponseDto responseDto = new InfoResponseDto();
         responseDto.setAppVersion(appversion.getVersionCode());
-        return ResponseEntity.ok(CommonResponseDto.builder()
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(cacheControl)
+                .body(CommonResponseDto.builder()
                 .status("200")
                 .message("버전 조회 성공")
                 .repCode("SUCCESS")
@@ -124,10 +148,13 @@ public class AuthControllerV1 {
             })
     @PostMapping("/login/web")
     public ResponseEntity<?> webAuthenticate(@RequestBody AuthRequestDto requestDto) {
-        Member member = memberService.checkBan(requestDto.getAccount());
+        LoginMemberDto member = memberService.checkBan(requestDto.getAccount());
         OtpTokenDto otpTokenDto = otpService.auth(requestDto, member);
         otpTokenDto.setId(member.getId());
-        fcmNotificationService.sendNotificationByToken(otpTokenDto);
+        // TOTP 사용자는 OTP 푸시 생략
+        if (!member.isTotpActive()) {
+            fcmNotificationService.sendNotification(otpTokenDto, member.getFirebaseToken());
+        }
 
         return ResponseEntity.ok(CommonResponseDto.builder()
                 .status("200")
@@ -156,11 +183,15 @@ public class AuthControllerV1 {
                     .build());
         }
 
-        Member member = memberService.checkBan(requestDto.getAccount());
+        LoginMemberDto member = memberService.checkBan(requestDto.getAccount());
         OtpTokenDto otpTokenDto = otpService.auth(requestDto, member);
         otpTokenDto.setId(member.getId());
-        memberService.initFCM(requestDto, member);
-        fcmNotificationService.sendNotificationByToken(otpTokenDto);
+        // 방금 저장한 토큰으로 바로 전송 (재조회 생략)
+        String firebaseToken = memberService.initFCM(requestDto, member.getId());
+        // TOTP 사용자는 OTP 푸시 생략
+        if (!member.isTotpActive()) {
+            fcmNotificationService.sendNotification(otpTokenDto, firebaseToken);
+        }
 
         return ResponseEntity.ok(CommonResponseDto.builder()
                 .status("200")
@@ -185,15 +216,11 @@ public class AuthControllerV1 {
             HttpServletResponse response,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         InfoResponseDto infoResponseDto = new InfoResponseDto();
-        Member member = null;
+        String principalMemberId = userDetails != null ? userDetails.getMemberId() : null;
 
-        if(userDetails != null){
-            member = userDetails.getMember();
-        }
-
-        otpService.check(authRequestDto, member);
-        member = otpService.extractUserFromOtp(authRequestDto);
-        redisService.resetStatus(authRequestDto.getId());
+        // 사용자/OTP 단일 조회 후 코드 확인
+        Member member = otpService.checkLoginCode(authRequestDto, principalMemberId);
+        redisService.resetStatus(member.getId());
 
         CustomUserDetails user = member.toCustomUserDetails();
         String accessToken = jwtProvider.generateAccessToken(user);
@@ -294,13 +321,10 @@ public class AuthControllerV1 {
                     .build());
         }
 
-        Member member = null;
-        if(userDetails != null){
-            member = userDetails.getMember();
-        }
+        String principalMemberId = userDetails != null ? userDetails.getMemberId() : null;
 
-        otpService.check(authRequestDto, member);
-        member = otpService.extractUserFromOtp(authRequestDto);
+        // 사용자/OTP 단일 조회 후 코드 확인
+        Member member = otpService.checkLoginCode(authRequestDto, principalMemberId);
         CustomUserDetails user = member.toCustomUserDetails();
         String accessToken = jwtProvider.generateAccessToken(user);
         String refreshToken = jwtProvider.generateRefreshToken(user);
@@ -16,6 +16,8 @@ import org.almagestauth.service.EmailVerificationService;
 import org.almagestauth.service.MemberService;
 import org.almagestauth.service.OtpService;
 import org.almagestauth.utils.RedisService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -39,7 +41,7 @@ public class MemberControllerV1 {
     @PostMapping("/renew")
     public ResponseEntity<CommonResponseDto<?>> renewToken(@AuthenticationPrincipal CustomUserDetails userDetails){
         InfoResponseDto infoResponseDto = new InfoResponseDto();
-        infoResponseDto.setMemberId(userDetails.getMember().getId());
+        infoResponseDto.setMemberId(userDetails.getMemberId());
         return ResponseEntity.ok(CommonResponseDto.builder()
                 .status("200")
                 .message("토큰 재발행 성공")
@@ -106,6 +108,56 @@ public class MemberControllerV1 {
                 .build());
     }
 
+    @Operation(summary = "TOTP 비밀키 발급",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "비밀키 발급 성공"),
+                    @ApiResponse(responseCode = "400", description = "TOTP 사용 중"),
+            })
+    @PostMapping("/totp")
+    public ResponseEntity<CommonResponseDto<?>> provisionTotp(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(CommonResponseDto.builder()
+                .status("200")
+                .message("TOTP 비밀키 발급 성공")
+                .repCode("SUCCESS")
+                .repMsg("인증 앱에 등록 후 코드를 확인하세요")
+                .data(memberService.provisionTotp(userDetails.getMember()))
+                .build());
+    }
+
+    @Operation(summary = "TOTP 코드 확인, TOTP 사용",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "코드 일치, TOTP 사용 설정 성공"),
+                    @ApiResponse(responseCode = "400", description = "코드 불일치"),
+            })
+    @PutMapping("/totp")
+    public ResponseEntity<CommonResponseDto<?>> enableTotp(@RequestBody DataChangeRequestDto requestDto,
+                                                          @AuthenticationPrincipal CustomUserDetails userDetails) {
+        memberService.enableTotp(requestDto, userDetails.getMember());
+        return ResponseEntity.ok(CommonResponseDto.builder()
+                .status("200")
+                .message("TOTP 사용 설정 성공")
+                .repCode("SUCCESS")
+                .repMsg("인증 앱 코드로 로그인할 수 있습니다")
+                .build());
+    }
+
+    @Operation(summary = "TOTP 코드 확인, TOTP 해제",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "코드 일치, TOTP 해제 성공"),
+                    @ApiResponse(responseCode = "400", description = "코드 불일치"),
+            })
+    @DeleteMapping("/totp")
+    public ResponseEntity<CommonResponseDto<?>> disableTotp(@RequestBody DataChangeRequestDto requestDto,
+                                                           @AuthenticationPrincipal CustomUserDetails userDetails) {
+        memberService.disableTotp(requestDto, userDetails.getMember());
+        return ResponseEntity.ok(CommonResponseDto.builder()
+                .status("200")
+                .message("TOTP 해제 성공")
+                .repCode("SUCCESS")
+                .repMsg("TOTP가 해제되었습니다")
+                .build());
+    }
+
     @Operation(summary = "이메일 인증 발송",
             responses = {
                     @ApiResponse(responseCode = "200", description = "코드 전송 성공"),
@@ -133,7 +185,7 @@ public class MemberControllerV1 {
             @RequestBody AuthRequestDto requestDto,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         otpService.check(requestDto, userDetails.getMember());
-        memberService.enableUser(userDetails.getMember());
+        memberService.enableUser(userDetails.getMemberId());
         return ResponseEntity.ok(CommonResponseDto.builder()
                 .status("200")
                 .message("사용자 승인 성공")
@@ -193,7 +245,7 @@ public class MemberControllerV1 {
             @RequestBody DataChangeRequestDto requestDto,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         otpService.check(requestDto, userDetails.getMember());
-        memberService.changeEmail(requestDto.getNewEmail(), userDetails.getMember());
+        memberService.changeEmail(requestDto.getNewEmail(), userDetails.getMemberId());
         return ResponseEntity.ok(CommonResponseDto.builder()
                 .status("200")
                 .message("이메일 변경 성공")
@@ -231,10 +283,24 @@ public class MemberControllerV1 {
                     @ApiResponse(responseCode = "400", description = "사용자 정보 없음")
             })
     @PostMapping("/info/latest")
-    public ResponseEntity<CommonResponseDto<?>> update(@AuthenticationPrincipal CustomUserDetails userDetails) throws Exception {
-        InfoResponseDto responseDto = memberService.latestInfo(userDetails.getMember());
+    public ResponseEntity<CommonResponseDto<?>> update(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                       @RequestParam(value = "version", required = false) Long version) {
+        // 마지막으로 받은 버전: If-None-Match 헤더 우선, 없으면 version 파라미터
+        Long knownVersion = ifNoneMatch != null ? parseInfoVersion(ifNoneMatch) : version;
+        Member member = userDetails.getMember();
+        InfoResponseDto responseDto = memberService.latestInfo(member, knownVersion);
 
-        return ResponseEntity.ok(CommonResponseDto.builder()
+        // 변경 없음
+        if (responseDto == null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(String.valueOf(member.getCurrentInfoVersion()))
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(responseDto.getInfoVersion()))
+                .body(CommonResponseDto.builder()
                 .status("200")
                 .message("정보 조회 성공")
                 .repCode("SUCCESS")
@@ -285,7 +351,7 @@ public class MemberControllerV1 {
                 .build();
         response.addHeader("Set-Cookie", cookie.toString());
 
-        redisService.resetStatus(userDetails.getMember().getId());
+        redisService.resetStatus(userDetails.getMemberId());
 
         return ResponseEntity.ok(CommonResponseDto.builder()
                 .status("200")
@@ -322,7 +388,7 @@ public class MemberControllerV1 {
                 .build();
         response.addHeader("Set-Cookie", cookie.toString());
 
-        redisService.resetStatus(userDetails.getMember().getId());
+        redisService.resetStatus(userDetails.getMemberId());
 
         return ResponseEntity.ok(CommonResponseDto.builder()
                 .status("200")
@@ -331,4 +397,20 @@ public class MemberControllerV1 {
                 .repMsg("회원 탈퇴가 성공적으로 완료되었습니다")
                 .build());
     }
+
+    /**
+     * If-None-Match 값("3", W/"3")에서 정보 버전 추출. 형식이 맞지 않으면 null
+     */
+    private static Long parseInfoVersion(String ifNoneMatch) {
+        String value = ifNoneMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -6,13 +6,11 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.almagestauth.security.authentication.CustomUserDetails;
 import org.hibernate.annotations.Comment;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 
@@ -88,10 +86,23 @@ public class Member extends BaseTime implements Serializable {
     @Comment("마지막 정보 업데이트 날짜")
     private LocalDateTime lastUpdate;
 
+    @Column(columnDefinition = "BIGINT DEFAULT 0")
+    @Comment("사용자 정보 변경 버전 (최신화 요청 비교용)")
+    private Long infoVersion;
+
     @Column(columnDefinition = "VARCHAR(255)")
     @Comment("OTP알림용 FCM토큰")
     private String firebaseToken;
 
+    @Column(columnDefinition = "VARCHAR(128)")
+    @Comment("TOTP 비밀키 (Base32, AES256 암호화)")
+    @ToString.Exclude
+    private String totpSecret;
+
+    @Column(columnDefinition = "CHAR(1) DEFAULT 'F'")
+    @Comment("TOTP 사용 여부")
+    private String totpEnabled;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "role_id")
     @Comment("사용자 권한")
@@ -118,13 +129,28 @@ public class Member extends BaseTime implements Serializable {
         this.lastUpdate = LocalDateTime.now();
     }
 
+    /**
+     * 최신화 대상 정보(이름, 이메일, 승인 여부 등) 변경 시 버전 증가
+     */
+    public void markInfoChanged() {
+        this.infoVersion = getCurrentInfoVersion() + 1;
+        this.lastUpdate = LocalDateTime.now();
+    }
+
+    /**
+     * 현재 정보 변경 버전 (미설정 시 0)
+     */
+    public long getCurrentInfoVersion() {
+        return this.infoVersion != null ? this.infoVersion : 0L;
+    }
+
     /**
      * 사용자 정보를 UserDetails로 변환
      */
     public CustomUserDetails toCustomUserDetails() {
         return new CustomUserDetails(
                 this,
-                Collections.singletonList(new SimpleGrantedAuthority(this.role.getName()))
+                CustomUserDetails.authoritiesOf(this.role != null ? this.role.getName() : null)
         );
     }
 
@@ -132,14 +158,20 @@ public class Member extends BaseTime implements Serializable {
      * 사용자 활성화
      */
     public void enableUser() {
-        this.isEnabled = "T";
+        if (!"T".equals(this.isEnabled)) {
+            this.isEnabled = "T";
+            markInfoChanged();
+        }
     }
 
     /**
      * 사용자 비활성화
      */
     public void disableUser() {
-        this.isEnabled = "F";
+        if (!"F".equals(this.isEnabled)) {
+            this.isEnabled = "F";
+            markInfoChanged();
+        }
     }
 
     /**
@@ -156,10 +188,18 @@ public class Member extends BaseTime implements Serializable {
      * 이메일 변경
      */
     public void changeEmail(String newEmail) {
-        if (newEmail == null || !newEmail.matches("^[A-Za-z0-9+_.-]+@[a-zA-Z0-9.-]+$")) {
+        if (!isValidEmail(newEmail)) {
             throw new IllegalArgumentException("올바른 이메일 형식을 입력하세요.");
         }
         this.email = newEmail;
+        markInfoChanged();
+    }
+
+    /**
+     * 이메일 형식 확인
+     */
+    public static boolean isValidEmail(String email) {
+        return email != null && email.matches("^[A-Za-z0-9+_.-]+@[a-zA-Z0-9.-]+$");
     }
 
     /**
@@ -169,6 +209,36 @@ public class Member extends BaseTime implements Serializable {
         this.firebaseToken = token;
     }
 
+    /**
+     * TOTP 비밀키 등록 (코드 확인 전까지 미사용)
+     */
+    public void registerTotpSecret(String secret) {
+        this.totpSecret = secret;
+        this.totpEnabled = "F";
+    }
+
+    /**
+     * TOTP 사용
+     */
+    public void enableTotp() {
+        this.totpEnabled = "T";
+    }
+
+    /**
+     * TOTP 해제
+     */
+    public void disableTotp() {
+        this.totpSecret = null;
+        this.totpEnabled = "F";
+    }
+
+    /**
+     * TOTP 사용 여부
+     */
+    public boolean isTotpActive() {
+        return "T".equals(this.totpEnabled) && this.totpSecret != null;
+    }
+
     public void changeRole(Role role){this.role = role;}
 
     /**
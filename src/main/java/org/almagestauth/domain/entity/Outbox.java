@@ -0,0 +1,79 @@
+package org.almagestauth.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스.
+ * 회원 정보 변경과 같은 트랜잭션에서 저장되고, 커밋 후 OutboxRelay가 메일/푸시를 발송한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox", indexes = {
+        @Index(name = "idx_outbox_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbox_status_sent", columnList = "status, sent_at")
+})
+public class Outbox extends BaseTime {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(10)")
+    @Comment("발송 유형 (MAIL, PUSH)")
+    private Type type;
+
+    @Column(columnDefinition = "TEXT")
+    @Comment("발송 내용 (암호화된 JSON, 발송 완료/최종 실패 시 삭제)")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(10)")
+    @Comment("처리 상태")
+    private Status status;
+
+    @Column(nullable = false)
+    @Comment("발송 시도 횟수")
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME")
+    @Comment("다음 발송 시도 시각")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(columnDefinition = "DATETIME")
+    @Comment("발송 처리 시작 시각")
+    private LocalDateTime claimedAt;
+
+    @Column(columnDefinition = "DATETIME")
+    @Comment("발송 완료 시각")
+    private LocalDateTime sentAt;
+
+    @Column(columnDefinition = "VARCHAR(255)")
+    @Comment("마지막 오류")
+    private String lastError;
+
+    public Outbox(Type type, String payload) {
+        this.type = type;
+        this.payload = payload;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public enum Type {
+        MAIL, PUSH
+    }
+
+    public enum Status {
+        PENDING,     // 발송 대기
+        PROCESSING,  // 발송 중
+        SENT,        // 발송 완료
+        FAILED       // 최대 시도 횟수 초과
+    }
+}
@@ -0,0 +1,7 @@
+package org.almagestauth.domain.repository;
+
+import org.almagestauth.domain.entity.Outbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxRepository extends JpaRepository<Outbox, Long> {
+}
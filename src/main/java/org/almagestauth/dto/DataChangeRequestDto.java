@@ -1,10 +1,14 @@
 package org.almagestauth.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -26,4 +30,34 @@ public class DataChangeRequestDto {
     private String country;
     private String name;
 
+    // 요청 본문에 포함된 추가 정보 항목 (JSON merge patch: 없는 항목은 유지, null은 삭제)
+    @JsonIgnore
+    private final Set<String> presentFields = new HashSet<>();
+
+    public void setName(String name) {
+        this.name = name;
+        presentFields.add("name");
+    }
+
+    public void setGender(String gender) {
+        this.gender = gender;
+        presentFields.add("gender");
+    }
+
+    public void setBirthDate(String birthDate) {
+        this.birthDate = birthDate;
+        presentFields.add("birthDate");
+    }
+
+    public void setCountry(String country) {
+        this.country = country;
+        presentFields.add("country");
+    }
+
+    /**
+     * 요청 본문에 항목이 포함되었는지 여부 (값이 null이어도 포함된 경우 true)
+     */
+    public boolean isPresent(String field) {
+        return presentFields.contains(field);
+    }
 }
@@ -22,10 +22,14 @@ public class InfoResponseDto {
 
     private String isEnabled;
     private LocalDateTime lastUpdate;
+    private Long infoVersion;
     private String appVersion;
 
     private String errCount;
 
+    private String totpSecret;
+    private String totpUri;
+
 
 
     /**
@@ -0,0 +1,34 @@
+package org.almagestauth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 로그인 처리용 사용자 정보.
+ * Member 엔티티 대신 로그인/OTP 발급/푸시 전송에 필요한 컬럼만 한 번에 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class LoginMemberDto {
+    private String id;
+    private String account;
+    @ToString.Exclude
+    private String password;
+    private String isEnabled;
+    private String isBanned;
+    private String roleName;
+    @ToString.Exclude
+    private String firebaseToken;
+    private String totpEnabled;
+    @ToString.Exclude
+    private String totpSecret;
+
+    /**
+     * TOTP 사용 여부
+     */
+    public boolean isTotpActive() {
+        return "T".equals(totpEnabled) && totpSecret != null;
+    }
+}
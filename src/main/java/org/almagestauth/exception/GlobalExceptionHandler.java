@@ -9,6 +9,7 @@ import org.almagestauth.exception.r401.InvalidTokenException;
 import org.almagestauth.exception.r406.AccessDeniedException;
 import org.almagestauth.exception.r500.CodeGenerationException;
 import org.almagestauth.exception.r500.RedisSessionException;
+import org.almagestauth.exception.r503.ServiceBusyException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -189,6 +190,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 
+    // 503 SERVICE_UNAVAILABLE
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<?> handleServiceBusyException(ServiceBusyException ex) {
+        log.warn("ServiceBusyException - " + ex.getMessage());
+        CommonResponseDto<?> response = CommonResponseDto.builder()
+                .status("503")
+                .message(ex.getMessage())
+                .repCode("FAILURE")
+                .repMsg("일시적으로 요청을 처리할 수 없습니다")
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(response);
+    }
+
     // 400 BAD_REQUEST
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<?> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException ex) {
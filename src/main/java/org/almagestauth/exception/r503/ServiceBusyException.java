@@ -0,0 +1,8 @@
+package org.almagestauth.exception.r503;
+
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -2,30 +2,100 @@ package org.almagestauth.security.authentication;
 
 import org.almagestauth.domain.entity.Member;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
 
 
 public class CustomUserDetails implements UserDetails {
+    // 권한이 지정되지 않은 회원의 기본 권한
+    public static final String DEFAULT_ROLE = "ROLE_USER";
+
+    private final String memberId;
+    private final String isEnabled;
+    private final String isBanned;
     private Member member;
+    // member가 없는 경우(토큰 Claims 기반 인증) 필요 시점에 Member 조회
+    private final Supplier<Member> memberLoader;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public CustomUserDetails(Member member, Collection<? extends GrantedAuthority> authorities) {
         this.member = member;
+        this.memberId = member.getId();
+        this.isEnabled = member.getIsEnabled();
+        this.isBanned = member.getIsBanned();
+        this.memberLoader = null;
+        this.authorities = authorities;
+    }
+
+    /**
+     * Member 없이 생성하는 경량 사용자 정보.
+     * getMember() 최초 호출 시 memberLoader로 조회한다.
+     */
+    public CustomUserDetails(String memberId, String isEnabled, String isBanned,
+                             Collection<? extends GrantedAuthority> authorities,
+                             Supplier<Member> memberLoader) {
+        this.memberId = memberId;
+        this.isEnabled = isEnabled;
+        this.isBanned = isBanned;
+        this.memberLoader = memberLoader;
         this.authorities = authorities;
     }
 
+    /**
+     * 회원 권한 이름으로 권한 목록 생성 (권한이 없으면 기본 권한)
+     */
+    public static List<SimpleGrantedAuthority> authoritiesOf(String roleName) {
+        return Collections.singletonList(new SimpleGrantedAuthority(roleName != null ? roleName : DEFAULT_ROLE));
+    }
+
+    /**
+     * 사용승인 여부
+     */
     @Override
     public boolean isEnabled() {
-        return member.getIsEnabled() != null && !member.getIsEnabled().equals('Y');
+        return "T".equals(getIsEnabled());
     }
 
     public Member getMember() {
+        if (member == null && memberLoader != null) {
+            member = memberLoader.get();
+        }
         return member;
     }
 
+    public String getMemberId() {
+        return memberId;
+    }
+
+    /**
+     * 사용승인 여부 (T/F)
+     */
+    public String getIsEnabled() {
+        return member != null ? member.getIsEnabled() : isEnabled;
+    }
+
+    /**
+     * 차단 여부 (T/F)
+     */
+    public String getIsBanned() {
+        return member != null ? member.getIsBanned() : isBanned;
+    }
+
+    /**
+     * 권한 이름
+     */
+    public String getRoleName() {
+        return authorities.stream()
+                .findFirst()
+                .map(GrantedAuthority::getAuthority)
+                .orElse(null);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
@@ -49,6 +119,6 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public boolean isAccountNonLocked() {
-        return this.member.getIsBanned() != null && !this.member.getIsBanned().equals('Y');
+        return "F".equals(getIsBanned());
     }
 }
@@ -4,27 +4,35 @@ package org.almagestauth.security.authentication;
 import org.almagestauth.domain.entity.Member;
 import org.almagestauth.domain.repository.MemberRepository;
 import org.almagestauth.exception.r400.IllegalArgumentException;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
-    public CustomUserDetailsService(MemberRepository memberRepository) {
+    public CustomUserDetailsService(MemberRepository memberRepository, MemberPrincipalCache memberPrincipalCache) {
         this.memberRepository = memberRepository;
+        this.memberPrincipalCache = memberPrincipalCache;
     }
 
     /**
      * Username: memberID
+     * 캐시된 스냅샷이 있으면 DB 조회 없이 생성 (Member는 getMember() 호출 시 조회)
+     * 권한은 회원의 Role을 사용한다. (Access 토큰의 role Claim도 이 값으로 발급)
      */
     @Override
     public CustomUserDetails loadUserByUsername(String memberId) throws IllegalArgumentException {
+        MemberPrincipalCache.Snapshot snapshot = memberPrincipalCache.get(memberId);
+        if (snapshot != null) {
+            return new CustomUserDetails(memberId, snapshot.isEnabled(), snapshot.isBanned(),
+                    CustomUserDetails.authoritiesOf(snapshot.roleName()),
+                    () -> findMember(memberId));
+        }
+
         Optional<Member> savedMember = memberRepository.findById(memberId);
 
         if(savedMember.isEmpty()){
@@ -32,9 +40,35 @@ public class CustomUserDetailsService implements UserDetailsService {
         }
 
         Member member = savedMember.get();
+        memberPrincipalCache.put(member);
 
-        List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
+        return member.toCustomUserDetails();
+    }
+
+    /**
+     * Access 토큰 Claims로 경량 사용자 정보 생성 (DB 조회 없음).
+     * JwtProvider.validateAccessTokenClaims를 통과한 토큰(사용승인, 미차단)만 전달된다.
+     * Member는 getMember() 호출 시점에 조회된다.
+     */
+    public CustomUserDetails loadUserFromClaims(VerifiedToken token) {
+        String memberId = token.getSubject();
+        String enabled = token.getClaim(JwtProvider.ENABLED_CLAIM, String.class);
+        String banned = token.getClaim(JwtProvider.BANNED_CLAIM, String.class);
+        if (!"T".equals(enabled) || !"F".equals(banned)) {
+            throw new IllegalArgumentException("Claims 기반 인증을 사용할 수 없는 계정입니다.");
+        }
+
+        return new CustomUserDetails(
+                memberId,
+                enabled,
+                banned,
+                CustomUserDetails.authoritiesOf(token.getClaim(JwtProvider.ROLE_CLAIM, String.class)),
+                () -> findMember(memberId)
+        );
+    }
 
-        return new CustomUserDetails(member, authorities);
+    private Member findMember(String memberId) {
+        return memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
     }
 }
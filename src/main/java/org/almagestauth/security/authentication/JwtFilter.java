@@ -1,7 +1,5 @@
 package org.almagestauth.security.authentication;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -12,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.almagestauth.common.dto.CommonResponseDto;
 import org.almagestauth.exception.r401.InvalidTokenException;
 import org.almagestauth.exception.ResponseWriter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -35,6 +34,12 @@ import java.util.List;
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRefreshCoordinator tokenRefreshCoordinator;
+
+    // Access 토큰 Claims만으로 인증 (DB 조회 없음)
+    @Value("${jwt.claims-principal.enabled:false}")
+    private boolean claimsPrincipalEnabled;
 
     private static final List<String> EXCLUDED_PATHS = Arrays.asList(
         "/a1"
@@ -75,15 +80,16 @@ public class JwtFilter extends OncePerRequestFilter {
                 return;
             }
 
+            // 토큰은 요청당 한 번만 파싱/서명검증
+            VerifiedToken verifiedAccessToken = null;
+            VerifiedToken verifiedRefreshToken = null;
             String memberId;
-            try {
-                // 만료된 토큰에서도 사용자 ID 추출
-                Claims claims = jwtProvider.extractAllClaims(accessToken == null ? refreshToken : accessToken);
-                memberId = claims.getSubject();
-            } catch (ExpiredJwtException e) {
-                log.warn("Access token expired. Attempting to refresh token.");
-                Claims claims = e.getClaims();
-                memberId = claims.getSubject();
+            if (accessToken != null) {
+                verifiedAccessToken = verifyAccessToken(accessToken);
+                memberId = verifiedAccessToken.getSubject();
+            } else {
+                verifiedRefreshToken = jwtProvider.verify(refreshToken);
+                memberId = verifiedRefreshToken.getSubject();
             }
 
             // 이미 인증된 경우 스킵
@@ -92,6 +98,14 @@ public class JwtFilter extends OncePerRequestFilter {
                 return;
             }
 
+            // Claims 기반 인증. Member는 컨트롤러에서 필요할 때 조회
+            if (claimsPrincipalEnabled && verifiedAccessToken != null
+                    && jwtProvider.validateAccessTokenClaims(verifiedAccessToken)) {
+                authenticateUser(request, customUserDetailsService.loadUserFromClaims(verifiedAccessToken), verifiedAccessToken);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
             // 사용자 정보 로드
             CustomUserDetails userDetails = customUserDetailsService.loadUserByUsername(memberId);
             if (userDetails == null) {
@@ -100,36 +114,33 @@ public class JwtFilter extends OncePerRequestFilter {
 
 
             // Access 토큰 검증
-            if (accessToken != null) {
-                try {
-                    Claims claims = jwtProvider.extractAllClaims(accessToken);
-                    memberId = claims.getSubject();
-                } catch (ExpiredJwtException e) {
+            if (verifiedAccessToken != null) {
+                if (verifiedAccessToken.isExpired()) {
                     log.warn("Access token expired. Attempting to use refresh token.");
-                    memberId = e.getClaims().getSubject();
-                }
-
-                if (memberId != null) {
-                    userDetails = customUserDetailsService.loadUserByUsername(memberId);
-                    if (jwtProvider.validateAccessToken(accessToken, userDetails)) {
-                        authenticateUser(request, userDetails);
-                        filterChain.doFilter(request, response);
-                        return;
-                    }
+                } else if (jwtProvider.validateAccessToken(verifiedAccessToken, userDetails)) {
+                    authenticateUser(request, userDetails, verifiedAccessToken);
+                    filterChain.doFilter(request, response);
+                    return;
                 }
             }
             // Access 토큰이 만료되었거나 없는 경우, Refresh 토큰으로 갱신
             if (refreshToken != null) {
-                jwtProvider.validateRefreshToken(refreshToken);
-
+                if (verifiedRefreshToken == null) {
+                    verifiedRefreshToken = jwtProvider.verify(refreshToken);
+                }
 
-                if (memberId == null) {
-                    Claims claims = jwtProvider.extractAllClaims(refreshToken);
-                    memberId = claims.getSubject();
+                // Access 토큰과 Refresh 토큰의 사용자가 다른 경우 Refresh 토큰 기준으로 재조회
+                if (!verifiedRefreshToken.getSubject().equals(memberId)) {
+                    memberId = verifiedRefreshToken.getSubject();
                     userDetails = customUserDetailsService.loadUserByUsername(memberId);
                 }
 
-                String newAccessToken = jwtProvider.generateAccessToken(userDetails);
+                // 동시 재발급 요청은 하나의 서명 결과를 공유 (Refresh 토큰 검증은 요청마다 수행)
+                final VerifiedToken refresh = verifiedRefreshToken;
+                final CustomUserDetails refreshUser = userDetails;
+                String newAccessToken = tokenRefreshCoordinator.refresh(refresh,
+                        () -> jwtProvider.validateRefreshToken(refresh),
+                        () -> jwtProvider.generateAccessToken(refreshUser));
                 ResponseCookie newAccessTokenCookie = ResponseCookie.from("access_token", newAccessToken)
                         .secure(true)
                         .httpOnly(true)
@@ -138,7 +149,7 @@ public class JwtFilter extends OncePerRequestFilter {
                         .maxAge(60 * 10)
                         .build();
                 response.addHeader(HttpHeaders.SET_COOKIE, newAccessTokenCookie.toString());
-                authenticateUser(request, userDetails);
+                authenticateUser(request, userDetails, verifiedRefreshToken);
 
                 log.debug("Token refreshed and authentication successful for member: {}", memberId);
             } else {
@@ -166,12 +177,22 @@ public class JwtFilter extends OncePerRequestFilter {
     }
 
     /**
-     * 사용자를 인증 컨텍스트에 설정
+     * Access 토큰 검증.
+     * 캐시에 검증 결과가 있으면 서명 검증을 생략한다.
+     */
+    private VerifiedToken verifyAccessToken(String accessToken) {
+        return verifiedTokenCache.getOrVerify(accessToken, jwtProvider::verify);
+    }
+
+    /**
+     * 사용자를 인증 컨텍스트에 설정.
+     * 검증된 토큰은 credentials로 전달한다. 토큰 정보가 필요한 곳은 쿠키를 다시 파싱하지 않고
+     * Authentication.getCredentials()의 VerifiedToken을 사용한다.
      */
-    private void authenticateUser(HttpServletRequest request, CustomUserDetails userDetails) {
+    private void authenticateUser(HttpServletRequest request, CustomUserDetails userDetails, VerifiedToken verifiedToken) {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                 userDetails,
-                null,
+                verifiedToken,
                 userDetails.getAuthorities()
         );
         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
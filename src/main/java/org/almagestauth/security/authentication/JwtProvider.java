@@ -2,42 +2,45 @@ package org.almagestauth.security.authentication;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.almagestauth.exception.r401.InvalidTokenException;
 import org.almagestauth.exception.r500.CodeGenerationException;
-import org.almagestauth.service.SignKeyService;
 import org.almagestauth.utils.GenerateCodeUtil;
 import org.almagestauth.utils.RedisService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class JwtProvider {
-    private final SignKeyService signKeyService;
+    private final SignKeyRing signKeyRing;
     private final RedisService redisService;
 
     private static final String ISSUER = "https://almagest.io";
+    private static final String VERIFY_STRING_CLAIM = "vfs";
 
-    // 서명용 개인 키 (DB에서 로드)
-    private String privateKey;
+    // Access 토큰 Claims 기반 인증용 Claim
+    public static final String ROLE_CLAIM = "role";
+    public static final String ENABLED_CLAIM = "enb";
+    public static final String BANNED_CLAIM = "ban";
 
-    // 검증용 공개 키 (환경 변수에서 로드)
-    @Value("${jwt.public-key}")
-    private String publicKey;
+    // 서명 검증용 파서 (키는 SignKeyRing에서 kid로 조회)
+    private JwtParser jwtParser;
 
     // 인증토큰 만료시간 - 10분
     @Value("${jwt.access-exp}")
@@ -48,95 +51,82 @@ public class JwtProvider {
     private long refreshExpiration;
 
     /**
-     * 서버 시작 시 서명용 개인 키를 DB에서 로드하여 초기화.
-     * 이후 인증 및 서명 과정에서 사용.
+     * 서버 시작 시 검증용 파서를 한 번만 생성.
+     * 서명/검증 키는 SignKeyRing에서 관리.
      */
     @PostConstruct
     public void init() {
-        privateKey = signKeyService.getPrivateKey("almagest");
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(signKeyRing)
+                .build();
     }
 
     /**
-     * JWT 토큰에서 사용자 ID 추출.
+     * JWT 토큰 파싱 및 서명 검증.
+     * 요청당 한 번만 호출하고 반환된 VerifiedToken을 재사용한다.
+     * 만료된 토큰은 서명이 유효한 경우 만료 상태의 VerifiedToken으로 반환.
      * @param token JWT 토큰
-     * @return 사용자 ID (Member ID)
+     * @return 서명 검증이 완료된 토큰
      */
-    public String extractMemberId(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    /**
-     * JWT 토큰에서 만료 시간 추출.
-     * @param token JWT 토큰
-     * @return 만료 시간
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
-    }
-
-    /**
-     * JWT 토큰에서 발행자 정보 추출.
-     * @param token JWT 토큰
-     * @return 발행자 (Issuer)
-     */
-    private String extractIssuer(String token) { return extractClaim(token, Claims::getIssuer); }
-
-    /**
-     * JWT 토큰에서 특정 Claim을 추출.
-     * @param token JWT 토큰
-     * @param claimsResolver Claim 변환 함수
-     * @param <T> Claim의 타입
-     * @return 변환된 Claim
-     */
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-
-
-    /**
-     * JWT 토큰에서 모든 Claim을 추출.
-     * @param token JWT 토큰
-     * @return Claims 객체
-     */
-    public Claims extractAllClaims(String token) {
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidTokenException("토큰이 없습니다.");
+        }
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getPublicKey())
-                    .build()
+            Claims claims = jwtParser
                     .parseClaimsJws(token)
                     .getBody();
+            return new VerifiedToken(token, claims);
         } catch (ExpiredJwtException e) {
-            return e.getClaims();
+            // 서명 검증 이후 만료 검사에서 발생하므로 Claims는 신뢰 가능
+            return new VerifiedToken(token, e.getClaims());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("토큰 서명 검증 실패: {}", e.getMessage());
+            throw new InvalidTokenException("유효하지 않은 토큰입니다.");
         }
     }
 
-
     /**
      * Access 토큰 검증.
      * 사용자 ID, 토큰 만료 여부, 발행자를 확인하여 유효성 검증 수행.
-     * @param token JWT Access 토큰
+     * @param token 서명 검증이 완료된 Access 토큰
      * @param userDetails 사용자 정보
      * @return 토큰이 유효한 경우 true, 그렇지 않으면 false
      */
-    public boolean validateAccessToken(String token, CustomUserDetails userDetails) throws NoSuchAlgorithmException, InvalidKeySpecException {
-        final String memberId = extractMemberId(token);
-        return memberId.equals(userDetails.getMember().getId()) &&
-                !isTokenExpired(token) &&
-                ISSUER.equals(extractIssuer(token));
+    public boolean validateAccessToken(VerifiedToken token, CustomUserDetails userDetails) {
+        final String memberId = token.getSubject();
+        return memberId != null &&
+                memberId.equals(userDetails.getMemberId()) &&
+                !token.isExpired() &&
+                ISSUER.equals(token.getIssuer());
+    }
+
+    /**
+     * Claims만으로 인증 가능한 Access 토큰인지 검증.
+     * 만료 여부, 발행자, 권한 Claim 포함 여부, 사용승인(T)/미차단(F) 상태를 확인한다.
+     * 통과하지 못한 토큰은 DB 조회 기반 인증으로 처리된다.
+     * @param token 서명 검증이 완료된 Access 토큰
+     * @return Claims 기반 인증이 가능한 경우 true
+     */
+    public boolean validateAccessTokenClaims(VerifiedToken token) {
+        return token.getSubject() != null &&
+                !token.isExpired() &&
+                ISSUER.equals(token.getIssuer()) &&
+                token.getClaim(ROLE_CLAIM, String.class) != null &&
+                "T".equals(token.getClaim(ENABLED_CLAIM, String.class)) &&
+                "F".equals(token.getClaim(BANNED_CLAIM, String.class));
     }
 
 
     /**
      * Refresh 토큰 검증.
      * Redis에 저장된 검증 문자열과 대조하여 유효성 검증 수행.
-     * @param token JWT Refresh 토큰
+     * @param token 서명 검증이 완료된 Refresh 토큰
      */
-    public void validateRefreshToken(String token) {
+    public void validateRefreshToken(VerifiedToken token) {
         try {
-            String memberId = extractMemberId(token);
-            String tokenVerifyString = extractClaim(token, claims -> claims.get("verifyString", String.class));
+            String memberId = token.getSubject();
+            String tokenVerifyString = token.getClaim(VERIFY_STRING_CLAIM, String.class);
 
             String storedVerifyString = redisService.getRefreshTokenVerification(
                     memberId
@@ -144,25 +134,16 @@ public class JwtProvider {
 
             if (tokenVerifyString == null ||
                     !tokenVerifyString.equals(storedVerifyString) ||
-                    isTokenExpired(token) ||
-                    !ISSUER.equals(extractIssuer(token))) {
+                    token.isExpired() ||
+                    !ISSUER.equals(token.getIssuer())) {
                 throw new IllegalArgumentException("인증 요청이 유효하지 않습니다.");
             }
         } catch (Exception e) {
-            log.error("Access 토큰 검증 실패: {}", e.getMessage());
+            log.error("Refresh 토큰 검증 실패: {}", e.getMessage());
             throw new IllegalArgumentException("인증 요청 중 오류가 발생했습니다.");
         }
     }
 
-    /**
-     * JWT 토큰 만료 여부 확인.
-     * @param token JWT 토큰
-     * @return 만료된 경우 true, 그렇지 않으면 false
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
 
 
     /**
@@ -197,7 +178,7 @@ public class JwtProvider {
         try {
             return buildAccessToken(extraClaims, userDetails, accessExpiration);
         } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
-            log.error("Access 토큰 생성 실패: memberId={}", userDetails.getMember().getId(), e);
+            log.error("Access 토큰 생성 실패: memberId={}", userDetails.getMemberId(), e);
             throw new CodeGenerationException("인증과정에서 오류가 발생했습니다.");
         }
     }
@@ -219,17 +200,17 @@ public class JwtProvider {
 
             // Redis에 검증용 문자열 저장
             redisService.setRefreshTokenVerification(
-                    userDetails.getMember().getId(),
+                    userDetails.getMemberId(),
                     verifyString,
                     refreshExpiration
             );
 
             return buildRefreshToken(extraClaims, userDetails, refreshExpiration, verifyString);
         } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
-            log.error("Refresh 토큰 생성 실패: memberId={}", userDetails.getMember().getId(), e);
+            log.error("Refresh 토큰 생성 실패: memberId={}", userDetails.getMemberId(), e);
             throw new CodeGenerationException("인증과정에서 오류가 발생했습니다.");
         } catch (Exception e) {
-            log.error("Refresh 토큰 검증 정보 저장 실패: memberId={}", userDetails.getMember().getId(), e);
+            log.error("Refresh 토큰 검증 정보 저장 실패: memberId={}", userDetails.getMemberId(), e);
             throw new CodeGenerationException("인증정보 저장 중 오류가 발생했습니다.");
         }
     }
@@ -248,11 +229,15 @@ public class JwtProvider {
     ) throws NoSuchAlgorithmException, InvalidKeySpecException{
         return Jwts
                 .builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signKeyRing.getSigningKeyId())// 서명 키 id
                 .setIssuer(ISSUER)// Issuer
-                .setSubject(userDetails.getMember().getId())// memberId 설정. userDetails에서 가져온다.
+                .setSubject(userDetails.getMemberId())// memberId 설정. userDetails에서 가져온다.
                 .setIssuedAt(new Date(System.currentTimeMillis()))//현재시간
                 .setExpiration(new Date(System.currentTimeMillis() + accessExpiration))//만료시간 밀리초 * 초 * 분 * 시(1일)
-                .signWith(getPrivateKey(), SignatureAlgorithm.RS256)//서명정보.
+                .claim(ROLE_CLAIM, userDetails.getRoleName()) // 권한
+                .claim(ENABLED_CLAIM, userDetails.getIsEnabled()) // 사용승인 여부
+                .claim(BANNED_CLAIM, userDetails.getIsBanned()) // 차단 여부
+                .signWith(signKeyRing.getSigningKey(), SignatureAlgorithm.RS256)//서명정보.
                 .compact();
     }
 
@@ -273,32 +258,14 @@ public class JwtProvider {
     ) throws NoSuchAlgorithmException, InvalidKeySpecException {
         return Jwts
                 .builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signKeyRing.getSigningKeyId())// 서명 키 id
                 .setIssuer(ISSUER)//발행주체
-                .setSubject(userDetails.getMember().getId())// memberId 설정. userDetails에서 가져온다.
+                .setSubject(userDetails.getMemberId())// memberId 설정. userDetails에서 가져온다.
                 .setIssuedAt(new Date(System.currentTimeMillis()))//현재시간
                 .setExpiration(new Date(System.currentTimeMillis() + refreshExpiration))//만료시간 밀리초 * 초 * 분 * 시(1일)
-                .claim("vfs", verifyString) // 검증용 문자열 추가
-                .signWith(getPrivateKey(), SignatureAlgorithm.RS256)//서명정보.
+                .claim(VERIFY_STRING_CLAIM, verifyString) // 검증용 문자열 추가
+                .signWith(signKeyRing.getSigningKey(), SignatureAlgorithm.RS256)//서명정보.
                 .compact();
     }
 
-
-
-
-    /**
-     * 서명용 개인 키 가져오기.
-     * @return 개인 키
-     */
-    private Key getPrivateKey() {
-        return signKeyService.toPrivateKey(privateKey);
-    }
-
-    /**
-     * 검증용 공개 키 가져오기.
-     * @return 공개 키
-     */
-    private Key getPublicKey() {
-        return signKeyService.toPublicKey(publicKey);
-    }
-
 }
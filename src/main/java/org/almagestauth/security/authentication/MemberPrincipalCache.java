@@ -0,0 +1,128 @@
+package org.almagestauth.security.authentication;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.common.constants.RedisKeyConstants;
+import org.almagestauth.common.event.MemberChangedEvent;
+import org.almagestauth.domain.entity.Member;
+import org.almagestauth.utils.RedisService;
+import org.almagestauth.utils.cache.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사용자 정보(CustomUserDetails) 스냅샷 로컬 캐시.
+ * 회원 정보 변경 이벤트 발생 시 커밋 후 로컬에서 제거하고 Redis pub/sub으로 다른 노드에 전파한다.
+ */
+@Component
+@Slf4j
+public class MemberPrincipalCache implements MessageListener {
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ExpiringLruCache<String, Snapshot> cache;
+    private final boolean enabled;
+    private final long ttlMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public MemberPrincipalCache(RedisService redisService,
+                                RedisMessageListenerContainer listenerContainer,
+                                MeterRegistry meterRegistry,
+                                @Value("${member.principal-cache.enabled:false}") boolean enabled,
+                                @Value("${member.principal-cache.max-size:10000}") int maxSize,
+                                @Value("${member.principal-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.cache = new ExpiringLruCache<>(maxSize);
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000L;
+
+        this.hitCounter = Counter.builder("member.principal.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("member.principal.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("member.principal.cache.size", cache, ExpiringLruCache::size)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstants.MEMBER_INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 캐시 조회. 없거나 만료된 경우 null
+     */
+    public Snapshot get(String memberId) {
+        if (!enabled || memberId == null) {
+            return null;
+        }
+        Snapshot snapshot = cache.get(memberId);
+        if (snapshot == null) {
+            missCounter.increment();
+        } else {
+            hitCounter.increment();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Member의 스냅샷 저장
+     */
+    public void put(Member member) {
+        if (!enabled || member == null || member.getId() == null) {
+            return;
+        }
+        String roleName = member.getRole() != null ? member.getRole().getName() : null;
+        cache.put(member.getId(),
+                new Snapshot(member.getId(), member.getIsEnabled(), member.getIsBanned(), roleName),
+                System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * 로컬 캐시에서 제거
+     */
+    public void evict(String memberId) {
+        if (memberId != null) {
+            cache.remove(memberId);
+        }
+    }
+
+    /**
+     * 회원 정보 변경 커밋 후 로컬 제거 및 다른 노드로 전파
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        evict(event.getMemberId());
+        redisService.publishMemberInvalidation(event.getMemberId());
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String memberId = new String(message.getBody(), StandardCharsets.UTF_8);
+        evict(memberId);
+        log.debug("회원 캐시 무효화 수신: memberId={}", memberId);
+    }
+
+    /**
+     * 캐시되는 사용자 정보 스냅샷 (Member 엔티티 미포함)
+     */
+    public record Snapshot(String memberId, String isEnabled, String isBanned, String roleName) {
+    }
+}
@@ -0,0 +1,129 @@
+package org.almagestauth.security.authentication;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.domain.entity.SignKey;
+import org.almagestauth.exception.r500.CodeGenerationException;
+import org.almagestauth.service.SignKeyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JWT 서명/검증 키 보관소.
+ * DB의 서명 서비스(almagest) SignKey와 jwt.public-key를 시작 시 한 번만 복원해 key id(SignKey id)로 보관한다.
+ * 다른 서비스의 SignKey는 검증 키로 등록하지 않는다.
+ * reload() 호출 시 재시작 없이 키를 다시 불러오고, 이전 키로 검증된 토큰 캐시를 비운다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SignKeyRing extends SigningKeyResolverAdapter {
+    private final SignKeyService signKeyService;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    // 서명에 사용할 서비스 이름
+    private static final String SIGNING_SERVICE = "almagest";
+
+    // 검증용 공개 키 (환경 변수에서 로드)
+    @Value("${jwt.public-key}")
+    private String publicKey;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        snapshot = load();
+    }
+
+    /**
+     * 서명 키 재로드.
+     * 로드 성공 시 검증 토큰 캐시를 비우고, 실패 시 기존 키를 유지한다.
+     * @return 로드된 key id 목록
+     */
+    public synchronized Set<String> reload() {
+        try {
+            snapshot = load();
+            verifiedTokenCache.clear();
+            log.info("서명 키 재로드 완료: signingKeyId={}, keyIds={}", snapshot.signingKeyId, snapshot.publicKeys.keySet());
+        } catch (Exception e) {
+            log.error("서명 키 재로드 실패. 기존 키 유지: {}", e.getMessage());
+        }
+        return snapshot.publicKeys.keySet();
+    }
+
+    /**
+     * 서명용 개인 키
+     */
+    public PrivateKey getSigningKey() {
+        return snapshot.signingKey;
+    }
+
+    /**
+     * 서명용 개인 키의 key id
+     */
+    public String getSigningKeyId() {
+        return snapshot.signingKeyId;
+    }
+
+    /**
+     * key id로 검증용 공개 키 조회.
+     * key id가 없거나 등록되지 않은 경우 jwt.public-key 사용.
+     */
+    public PublicKey getPublicKey(String keyId) {
+        Snapshot current = snapshot;
+        if (keyId != null) {
+            PublicKey key = current.publicKeys.get(keyId);
+            if (key != null) {
+                return key;
+            }
+        }
+        return current.defaultPublicKey;
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키 선택
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        return getPublicKey(header.getKeyId());
+    }
+
+    private Snapshot load() {
+        // 서명 키: 서명 서비스의 가장 최근(id가 큰) 키
+        SignKey latest = signKeyService.getLatestSignKey(SIGNING_SERVICE);
+        if (latest == null) {
+            log.error("서명 키 로드 실패");
+            throw new CodeGenerationException("서명 키 로드 실패");
+        }
+        String signingKeyId = String.valueOf(latest.getId());
+        PrivateKey signingKey = signKeyService.toPrivateKey(latest.getPrivateKey());
+
+        // 검증 키: 서명 서비스의 키만 등록 (다른 서비스 키로 서명된 토큰은 신뢰하지 않음)
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        for (SignKey signKey : signKeyService.getSignKeys(SIGNING_SERVICE)) {
+            String keyId = String.valueOf(signKey.getId());
+            publicKeys.put(keyId, signKeyService.toPublicKey(signKeyService.toPrivateKey(signKey.getPrivateKey())));
+        }
+        publicKeys.put(signingKeyId, signKeyService.toPublicKey(signingKey));
+
+        return new Snapshot(signingKey, signingKeyId, signKeyService.toPublicKey(publicKey), Collections.unmodifiableMap(publicKeys));
+    }
+
+    private record Snapshot(PrivateKey signingKey,
+                            String signingKeyId,
+                            PublicKey defaultPublicKey,
+                            Map<String, PublicKey> publicKeys) {
+    }
+}
@@ -0,0 +1,25 @@
+package org.almagestauth.security.authentication;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 서명 키 재로드용 Actuator 엔드포인트.
+ * POST /actuator/signkeys (ADMIN 권한 필요, management.endpoints.web.exposure.include에 포함)
+ * 요청을 받은 노드만 재로드하므로 키 교체 시 모든 노드에 호출한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "signkeys")
+public class SignKeyRingEndpoint {
+    private final SignKeyRing signKeyRing;
+
+    @WriteOperation
+    public Set<String> reload() {
+        return signKeyRing.reload();
+    }
+}
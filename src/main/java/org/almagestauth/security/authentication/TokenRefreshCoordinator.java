@@ -0,0 +1,105 @@
+package org.almagestauth.security.authentication;
+
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.utils.RedisService;
+import org.almagestauth.utils.cache.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Access 토큰 재발급 single-flight 처리.
+ * 같은 Refresh 토큰으로 동시에 들어온 재발급 요청은 노드 내에서 하나의 재발급 결과를 공유하고,
+ * 재발급 직후 짧은 시간(reuse window) 동안은 Redis를 통해 다른 노드에서도 같은 토큰을 재사용한다.
+ * 재사용 여부와 관계없이 매 요청마다 Refresh 토큰 검증(저장된 검증 문자열 비교)을 수행해,
+ * 로그아웃/비밀번호 초기화 등으로 폐기된 Refresh 토큰은 재사용 구간에서도 거부된다.
+ */
+@Component
+@Slf4j
+public class TokenRefreshCoordinator {
+    private final RedisService redisService;
+    private final long reuseWindowMillis;
+    private final long waitTimeoutMillis;
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ExpiringLruCache<String, String> recentlyIssued;
+
+    public TokenRefreshCoordinator(RedisService redisService,
+                                   @Value("${jwt.refresh-reuse.window-ms:5000}") long reuseWindowMillis,
+                                   @Value("${jwt.refresh-reuse.max-size:10000}") int maxSize,
+                                   @Value("${jwt.refresh-reuse.wait-ms:3000}") long waitTimeoutMillis) {
+        this.redisService = redisService;
+        this.reuseWindowMillis = reuseWindowMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.recentlyIssued = new ExpiringLruCache<>(maxSize);
+    }
+
+    /**
+     * Refresh 토큰으로 Access 토큰 재발급.
+     * @param refreshToken 서명 검증이 완료된 Refresh 토큰
+     * @param validator Refresh 토큰 검증 (재사용하는 경우를 포함해 모든 요청에서 실행)
+     * @param issuer Access 토큰 생성 (single-flight 대표 요청에서만 실행)
+     * @return 새 Access 토큰
+     */
+    public String refresh(VerifiedToken refreshToken, Runnable validator, Supplier<String> issuer) {
+        // 폐기된 Refresh 토큰으로 재사용 토큰을 받지 않도록 먼저 검증
+        validator.run();
+
+        String key = refreshToken.getTokenHash();
+
+        String reused = recentlyIssued.get(key);
+        if (reused != null) {
+            return reused;
+        }
+
+        CompletableFuture<String> flight = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing, issuer);
+        }
+
+        try {
+            String accessToken = redisService.getReissuedAccessToken(key);
+            if (accessToken == null) {
+                accessToken = issuer.get();
+                redisService.setReissuedAccessToken(key, accessToken, reuseWindowMillis);
+            } else {
+                log.debug("다른 노드에서 재발급된 Access 토큰 재사용: memberId={}", refreshToken.getSubject());
+            }
+            recentlyIssued.put(key, accessToken, System.currentTimeMillis() + reuseWindowMillis);
+            flight.complete(accessToken);
+            return accessToken;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 대표 요청의 재발급 결과 대기.
+     * 대기 시간을 초과하면 결과를 기다리지 않고 직접 재발급한다.
+     */
+    private String await(CompletableFuture<String> flight, Supplier<String> issuer) {
+        try {
+            return flight.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("재발급 대기 시간 초과, 직접 재발급: timeout={}ms", waitTimeoutMillis);
+            return issuer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return issuer.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
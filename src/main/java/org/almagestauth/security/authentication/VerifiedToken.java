@@ -0,0 +1,93 @@
+package org.almagestauth.security.authentication;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 서명 검증이 완료된 JWT.
+ * 요청당 한 번만 파싱/서명검증하고 필터, JwtProvider, 컨트롤러에서 재사용한다.
+ * 만료된 토큰도 서명이 유효하면 expired 상태로 생성된다.
+ */
+public class VerifiedToken {
+    private final String token;
+    private final Claims claims;
+    private String tokenHash;
+
+    public VerifiedToken(String token, Claims claims) {
+        this.token = token;
+        this.claims = claims;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 해시 (캐시 키용)
+     */
+    public String getTokenHash() {
+        if (tokenHash == null) {
+            tokenHash = hash(token);
+        }
+        return tokenHash;
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    /**
+     * 사용자 ID (Member ID)
+     */
+    public String getSubject() {
+        return claims.getSubject();
+    }
+
+    /**
+     * 발행자 (Issuer)
+     */
+    public String getIssuer() {
+        return claims.getIssuer();
+    }
+
+    /**
+     * 만료 시간
+     */
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    /**
+     * 특정 Claim 조회
+     */
+    public <T> T getClaim(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+
+    /**
+     * 토큰 만료 여부
+     * @return 만료된 경우 true, 그렇지 않으면 false
+     */
+    public boolean isExpired() {
+        Date expiration = getExpiration();
+        return expiration == null || expiration.before(new Date());
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 해시. 토큰 원문을 캐시/Redis 키로 노출하지 않기 위해 사용
+     */
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 환경", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.almagestauth.security.authentication;
+
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.utils.cache.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 Access 토큰 캐시.
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하며 토큰의 exp 시각에 만료된다.
+ * 서명 키가 재로드되면 SignKeyRing이 전체 제거한다.
+ * jwt.token-cache.enabled=true 인 경우에만 동작.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+    private final boolean enabled;
+    private final ExpiringLruCache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.token-cache.enabled:false}") boolean enabled,
+                              @Value("${jwt.token-cache.max-size:10000}") int maxSize) {
+        this.enabled = enabled;
+        this.cache = new ExpiringLruCache<>(maxSize);
+    }
+
+    /**
+     * 캐시된 검증 토큰 조회. 없거나 만료된 경우 verifier로 검증 후 저장.
+     * 토큰 해시는 한 번만 계산해 조회/저장에 함께 사용한다.
+     * @param token 토큰 원문
+     * @param verifier 서명 검증 함수
+     * @return 서명 검증이 완료된 토큰
+     */
+    public VerifiedToken getOrVerify(String token, Function<String, VerifiedToken> verifier) {
+        if (!enabled || token == null) {
+            return verifier.apply(token);
+        }
+        String tokenHash = VerifiedToken.hash(token);
+        VerifiedToken cached = cache.get(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken verified = verifier.apply(token);
+        put(tokenHash, verified);
+        return verified;
+    }
+
+    /**
+     * 전체 제거 (서명 키 재로드 시)
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * 만료되지 않은 검증 토큰 저장
+     */
+    private void put(String tokenHash, VerifiedToken verifiedToken) {
+        if (verifiedToken.isExpired()) {
+            return;
+        }
+        cache.put(tokenHash, verifiedToken, verifiedToken.getExpiration().getTime());
+    }
+}
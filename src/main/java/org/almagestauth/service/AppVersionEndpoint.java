@@ -0,0 +1,26 @@
+package org.almagestauth.service;
+
+import lombok.RequiredArgsConstructor;
+import org.almagestauth.domain.entity.MobileAppVersion;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 앱 버전 등록용 Actuator 엔드포인트.
+ * POST /actuator/appversion {"versionCode": "..."} (ADMIN 권한 필요, 앱 버전의 유일한 등록 경로)
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "appversion")
+public class AppVersionEndpoint {
+    private final AppVersionService appVersionService;
+
+    @WriteOperation
+    public Map<String, Object> setNewVersion(String versionCode) {
+        MobileAppVersion saved = appVersionService.setNewVersion(versionCode);
+        return Map.of("id", saved.getId(), "versionCode", saved.getVersionCode());
+    }
+}
@@ -1,19 +1,122 @@
 package org.almagestauth.service;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.common.constants.RedisKeyConstants;
 import org.almagestauth.domain.entity.MobileAppVersion;
 import org.almagestauth.domain.entity.QMobileAppVersion;
+import org.almagestauth.domain.repository.AppVersionRepository;
 import org.almagestauth.exception.r400.IllegalArgumentException;
+import org.almagestauth.utils.RedisService;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
+/**
+ * 현재 앱 버전.
+ * 현재 버전을 메모리 스냅샷으로 보관해 조회 시 DB에 접근하지 않는다.
+ * 버전 변경 시 Redis pub/sub으로 모든 노드의 스냅샷을 갱신한다.
+ */
 @Service
+@Slf4j
 @RequiredArgsConstructor
-public class AppVersionService {
+public class AppVersionService implements MessageListener {
     private final JPAQueryFactory query;
+    private final AppVersionRepository appVersionRepository;
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
 
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstants.APP_VERSION_CHANNEL));
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("앱 버전 초기 로드 실패, 첫 조회 시 재시도: {}", e.getMessage());
+        }
+    }
 
     public MobileAppVersion getAppversion(){
+        return getSnapshot().version();
+    }
+
+    /**
+     * 현재 버전 스냅샷 (ETag 포함)
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = reload();
+        }
+        return current;
+    }
+
+    /**
+     * 새 버전 등록. 기존 버전은 현재 버전에서 해제하고, 커밋 후 모든 노드의 스냅샷을 갱신한다.
+     */
+    @Transactional
+    public MobileAppVersion setNewVersion(String versionCode){
+        if (!StringUtils.hasText(versionCode)) {
+            throw new IllegalArgumentException("버전 코드 누락");
+        }
+
+        QMobileAppVersion qMobileAppVersion = QMobileAppVersion.mobileAppVersion;
+        query.update(qMobileAppVersion)
+                .set(qMobileAppVersion.isCurrent, "F")
+                .where(qMobileAppVersion.isCurrent.eq("T"))
+                .execute();
+
+        MobileAppVersion newVersion = new MobileAppVersion();
+        newVersion.setVersionCode(versionCode);
+        newVersion.setIsCurrent("T");
+        MobileAppVersion saved = appVersionRepository.save(newVersion);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+                redisService.publishAppVersionChanged(versionCode);
+            }
+        });
+        return saved;
+    }
+
+    /**
+     * 다른 노드의 버전 변경 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("앱 버전 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * pub/sub 메시지 유실이나 DB 직접 변경에 대비한 주기 갱신
+     */
+    @Scheduled(fixedDelayString = "${app-version.refresh-ms:300000}", initialDelayString = "${app-version.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("앱 버전 주기 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized Snapshot reload() {
         QMobileAppVersion qMobileAppVersion = QMobileAppVersion.mobileAppVersion;
 
         MobileAppVersion appVersion = query.selectFrom(qMobileAppVersion)
@@ -22,12 +125,19 @@ public class AppVersionService {
         if(appVersion == null){
             throw new IllegalArgumentException("앱 버전 조회 실패");
         }
-        return appVersion;
-    }
-
-    public void setNewVersion(){
 
+        Snapshot loaded = new Snapshot(appVersion, "\"" + appVersion.getId() + "-" + appVersion.getVersionCode() + "\"");
+        Snapshot previous = snapshot;
+        snapshot = loaded;
+        if (previous == null || !previous.etag().equals(loaded.etag())) {
+            log.info("앱 버전 스냅샷 갱신: versionCode={}", appVersion.getVersionCode());
+        }
+        return loaded;
     }
 
-
+    /**
+     * 현재 버전과 ETag
+     */
+    public record Snapshot(MobileAppVersion version, String etag) {
+    }
 }
@@ -1,6 +1,5 @@
 package org.almagestauth.service;
 
-import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
 import lombok.RequiredArgsConstructor;
@@ -9,17 +8,22 @@ import org.almagestauth.domain.entity.Member;
 import org.almagestauth.domain.repository.MemberRepository;
 import org.almagestauth.dto.OtpTokenDto;
 import org.almagestauth.exception.r400.IllegalArgumentException;
+import org.almagestauth.utils.fcm.FcmBatcher;
+import org.almagestauth.utils.fcm.FcmTokenPruner;
+import org.almagestauth.utils.fcm.NotificationScheduler;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FCMNotificationService {
-    private final FirebaseMessaging firebaseMessaging;
     private final MemberRepository memberRepository;
+    private final NotificationScheduler notificationScheduler;
+    private final FcmBatcher fcmBatcher;
+    private final FcmTokenPruner fcmTokenPruner;
     final String OTP_TITLE = "Almagest OTP";
 
 
@@ -34,42 +38,49 @@ public class FCMNotificationService {
             throw new IllegalArgumentException("회원 정보를 찾을 수 없습니다.");
         }
 
-        Member member = savedMember.get();
+        sendNotification(otpTokenDto, savedMember.get().getFirebaseToken());
+    }
 
-        // Firebase 토큰 확인
-        if (member.getFirebaseToken() == null) {
+    /**
+     * 이미 조회한 FCM 토큰으로 OTP 알림 전송 (로그인 시 재조회 생략)
+     */
+    public void sendNotification(OtpTokenDto otpTokenDto, String token) {
+        // Firebase 토큰 확인 (정리된 토큰 포함)
+        if (!StringUtils.hasText(token)) {
             log.error("Firebase Token이 없습니다: " + otpTokenDto.getId());
             throw new IllegalArgumentException("앱 정보가 없습니다. 모바일 앱에서 최초 로그인 후 진행하세요.");
         }
 
-        // 서버 응답 완료 후 0.3초 뒤에 알림 전송
-        CompletableFuture.runAsync(() -> sendDelayedNotification(member, otpTokenDto));
+        // 서버 응답 완료 후 0.3초 뒤에 알림 전송 (예약 작업)
+        notificationScheduler.schedule(() -> sendDelayedNotification(token, otpTokenDto));
     }
 
-    private void sendDelayedNotification(Member member, OtpTokenDto otpTokenDto) {
-        try {
-            // 1초 딜레이
-            Thread.sleep(300);
-
-            Notification notification = Notification.builder()
-                    .setTitle("OTP Code")
-                    .build();
-
-            Message message = Message.builder()
-                    .setToken(member.getFirebaseToken())
-                    .setNotification(notification)
-                    .putData("type", "otp")
-                    .putData("code", otpTokenDto.getCode())
-                    .build();
-
-            firebaseMessaging.send(message);
-            log.info("알림 전송 성공: " + otpTokenDto.getId());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("딜레이 중 스레드가 중단되었습니다.");
-        } catch (Exception e) {
-            log.error("알림 전송 중 오류 발생: " + e.getMessage());
-        }
+    private void sendDelayedNotification(String token, OtpTokenDto otpTokenDto) {
+        Notification notification = Notification.builder()
+                .setTitle("OTP Code")
+                .build();
+
+        Message message = Message.builder()
+                .setToken(token)
+                .setNotification(notification)
+                .putData("type", "otp")
+                .putData("code", otpTokenDto.getCode())
+                .build();
+
+        // 묶음 발송 후 메시지별 결과 확인
+        fcmBatcher.submit(message).whenComplete((response, e) -> {
+            if (e != null) {
+                log.error("알림 전송 중 오류 발생: " + e.getMessage());
+            } else if (response.isSuccessful()) {
+                log.info("알림 전송 성공: " + otpTokenDto.getId());
+            } else {
+                log.error("알림 전송 실패: " + otpTokenDto.getId() + ", " + response.getException().getMessage());
+                // 영구 오류 토큰은 정리 대상으로 등록
+                if (FcmTokenPruner.isPermanent(response.getException())) {
+                    fcmTokenPruner.markInvalid(token);
+                }
+            }
+        });
     }
 
 
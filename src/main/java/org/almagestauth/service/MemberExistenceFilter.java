@@ -0,0 +1,257 @@
+package org.almagestauth.service;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.common.constants.RedisKeyConstants;
+import org.almagestauth.domain.entity.QMember;
+import org.almagestauth.utils.RedisService;
+import org.almagestauth.utils.cache.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 가입된 계정/이메일 블룸 필터.
+ * 시작 시 member 테이블을 id 순으로 나눠 읽어 구성하고, 가입/이메일 변경 시 추가 후 Redis pub/sub으로 다른 노드에 전파한다.
+ * 필터에 없으면 미사용이 확실하므로 DB 조회 없이 판단하고, 있을 수도 있는 경우에만 DB로 확인한다.
+ * 탈퇴 회원도 행이 남아 계정/이메일을 계속 점유하므로 제거는 하지 않는다.
+ * 이메일 변경 전 값은 주기 재구성 때 정리된다.
+ */
+@Component
+@Slf4j
+public class MemberExistenceFilter implements MessageListener {
+    private static final String ACCOUNT_PREFIX = "a:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int batchSize;
+
+    private final Counter accountMissCounter;
+    private final Counter accountMaybeCounter;
+    private final Counter emailMissCounter;
+    private final Counter emailMaybeCounter;
+
+    // 구성 완료 전에는 null (모든 조회를 DB로 확인)
+    private volatile Filters active;
+    // 재구성 중인 필터 (재구성 중 추가되는 값을 함께 반영)
+    private volatile Filters building;
+
+    public MemberExistenceFilter(JPAQueryFactory jpaQueryFactory,
+                                 RedisService redisService,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${member.existence-filter.enabled:true}") boolean enabled,
+                                 @Value("${member.existence-filter.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${member.existence-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${member.existence-filter.batch-size:5000}") int batchSize) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.batchSize = batchSize;
+
+        this.accountMissCounter = lookupCounter(meterRegistry, "account", "miss");
+        this.accountMaybeCounter = lookupCounter(meterRegistry, "account", "maybe");
+        this.emailMissCounter = lookupCounter(meterRegistry, "email", "miss");
+        this.emailMaybeCounter = lookupCounter(meterRegistry, "email", "maybe");
+    }
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyConstants.MEMBER_EXISTENCE_CHANNEL));
+        }
+    }
+
+    /**
+     * 시작 후 필터 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 주기 재구성 (전파 누락, 변경 전 이메일, 회원 수 증가 대비)
+     */
+    @Scheduled(fixedDelayString = "${member.existence-filter.rebuild-ms:86400000}",
+            initialDelayString = "${member.existence-filter.rebuild-ms:86400000}")
+    public void scheduledRebuild() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 계정이 사용 중일 가능성. false면 미사용 확실
+     */
+    public boolean mightContainAccount(String account) {
+        Filters filters = active;
+        if (filters == null) {
+            return true;
+        }
+        boolean maybe = filters.accounts.mightContain(normalize(account));
+        (maybe ? accountMaybeCounter : accountMissCounter).increment();
+        return maybe;
+    }
+
+    /**
+     * 이메일이 사용 중일 가능성. false면 미사용 확실
+     */
+    public boolean mightContainEmail(String email) {
+        Filters filters = active;
+        if (filters == null) {
+            return true;
+        }
+        boolean maybe = filters.emails.mightContain(normalize(email));
+        (maybe ? emailMaybeCounter : emailMissCounter).increment();
+        return maybe;
+    }
+
+    /**
+     * 계정 추가 및 다른 노드로 전파
+     */
+    public void addAccount(String account) {
+        if (enabled && account != null) {
+            putAccount(account);
+            redisService.publishMemberExistence(ACCOUNT_PREFIX + account);
+        }
+    }
+
+    /**
+     * 이메일 추가 및 다른 노드로 전파
+     */
+    public void addEmail(String email) {
+        if (enabled && email != null) {
+            putEmail(email);
+            redisService.publishMemberExistence(EMAIL_PREFIX + email);
+        }
+    }
+
+    /**
+     * 다른 노드의 추가 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.startsWith(ACCOUNT_PREFIX)) {
+            putAccount(body.substring(ACCOUNT_PREFIX.length()));
+        } else if (body.startsWith(EMAIL_PREFIX)) {
+            putEmail(body.substring(EMAIL_PREFIX.length()));
+        }
+    }
+
+    /**
+     * member 테이블을 id 순으로 나눠 읽어 새 필터를 구성한 뒤 교체.
+     * 실패 시 기존 필터를 유지한다.
+     */
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            QMember qMember = QMember.member;
+            Long total = jpaQueryFactory.select(qMember.count()).from(qMember).fetchOne();
+            long size = Math.max(expectedInsertions, (total != null ? total : 0L) * 2);
+            Filters next = new Filters(new BloomFilter(size, falsePositiveRate), new BloomFilter(size, falsePositiveRate));
+            building = next;
+
+            String lastId = null;
+            long loaded = 0;
+            while (true) {
+                List<Tuple> rows = jpaQueryFactory
+                        .select(qMember.id, qMember.account, qMember.email)
+                        .from(qMember)
+                        .where(lastId != null ? qMember.id.gt(lastId) : null)
+                        .orderBy(qMember.id.asc())
+                        .limit(batchSize)
+                        .fetch();
+                for (Tuple row : rows) {
+                    putIfPresent(next.accounts, row.get(qMember.account));
+                    putIfPresent(next.emails, row.get(qMember.email));
+                }
+                loaded += rows.size();
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                lastId = rows.get(rows.size() - 1).get(qMember.id);
+            }
+
+            active = next;
+            log.info("회원 존재 필터 구성 완료: members={}, bits={}, {}ms",
+                    loaded, next.accounts.bitSize(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("회원 존재 필터 구성 실패. 기존 필터 유지: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private void putAccount(String account) {
+        String value = normalize(account);
+        Filters filters = active;
+        if (filters != null) {
+            filters.accounts.put(value);
+        }
+        Filters next = building;
+        if (next != null) {
+            next.accounts.put(value);
+        }
+    }
+
+    private void putEmail(String email) {
+        String value = normalize(email);
+        Filters filters = active;
+        if (filters != null) {
+            filters.emails.put(value);
+        }
+        Filters next = building;
+        if (next != null) {
+            next.emails.put(value);
+        }
+    }
+
+    private static void putIfPresent(BloomFilter filter, String value) {
+        if (value != null) {
+            filter.put(normalize(value));
+        }
+    }
+
+    /**
+     * DB 대소문자/후행 공백 무시 비교에 맞춰 정규화 (오탐만 늘고 누락은 생기지 않음)
+     */
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String type, String result) {
+        return Counter.builder("member.existence.filter")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record Filters(BloomFilter accounts, BloomFilter emails) {
+    }
+}
@@ -1,23 +1,32 @@
 package org.almagestauth.service;
 
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.common.event.MemberChangedEvent;
 import org.almagestauth.domain.entity.Member;
 import org.almagestauth.domain.entity.QMember;
+import org.almagestauth.domain.entity.QRole;
 import org.almagestauth.domain.entity.Role;
 import org.almagestauth.domain.repository.MemberRepository;
 import org.almagestauth.domain.repository.RoleRepository;
 import org.almagestauth.dto.*;
 import org.almagestauth.exception.r400.IllegalArgumentException;
 import org.almagestauth.exception.r406.AccessDeniedException;
+import org.almagestauth.exception.r503.ServiceBusyException;
 import org.almagestauth.security.authentication.CustomUserDetails;
+import org.almagestauth.security.authentication.MemberPrincipalCache;
 import org.almagestauth.utils.GenerateCodeUtil;
-import org.almagestauth.utils.MailHandler;
-import org.almagestauth.utils.encoder.Bcrypt;
-import org.springframework.mail.MailSendException;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.almagestauth.utils.RedisService;
+import org.almagestauth.utils.TotpGenerator;
+import org.almagestauth.utils.mail.MailMessage;
+import org.almagestauth.utils.encoder.DataEncryptor;
+import org.almagestauth.utils.encoder.PasswordHashExecutor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -32,8 +41,15 @@ import java.util.Optional;
 public class MemberService {
     private final MemberRepository memberRepository;
     private final RoleRepository roleRepository;
-    private final JavaMailSender mailSender;
+    private final OutboxService outboxService;
     private final JPAQueryFactory jpaQueryFactory;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final TotpGenerator totpGenerator;
+    private final MemberExistenceFilter memberExistenceFilter;
+    private final RedisService redisService;
+    private final DataEncryptor dataEncryptor;
 
     private static final String ALLOWED_SPECIAL_CHARACTERS = "!@_";
     private static final int PASSWORD_LENGTH = 8;
@@ -43,6 +59,21 @@ public class MemberService {
      * userDetailsService용 객체->userDetails변환. isbanned로직 추가
      */
     public CustomUserDetails findMemberToCustom(String membeId) {
+        // 캐시된 스냅샷이 있으면 DB 조회 없이 변환 (Member는 getMember() 호출 시 조회)
+        MemberPrincipalCache.Snapshot snapshot = memberPrincipalCache.get(membeId);
+        if (snapshot != null) {
+            if ("T".equals(snapshot.isBanned())) {
+                throw new AccessDeniedException("해당 계정은 접속이 차단되었습니다.");
+            }
+            return new CustomUserDetails(
+                    snapshot.memberId(),
+                    snapshot.isEnabled(),
+                    snapshot.isBanned(),
+                    CustomUserDetails.authoritiesOf(snapshot.roleName()),
+                    () -> memberRepository.findById(membeId)
+                            .orElseThrow(() -> new IllegalArgumentException("해당 계정을 찾을 수 없습니다.")));
+        }
+
         Optional<Member> findMember = memberRepository.findById(membeId);
 
         if (findMember.isEmpty()) {
@@ -57,6 +88,7 @@ public class MemberService {
         }
 
         // 정상적인 경우 UserDetails로 변환하여 반환
+        memberPrincipalCache.put(member);
         return member.toCustomUserDetails();
     }
 
@@ -76,12 +108,21 @@ public class MemberService {
     }
 
     /**
-     * 유저사용승인
+     * 유저사용승인. 이미 승인된 경우 변경 없음
      */
-    public void enableUser(Member member) {
+    public void enableUser(String memberId) {
+        QMember qMember = QMember.member;
         try {
-            member.enableUser();
-            memberRepository.save(member);
+            long updated = jpaQueryFactory.update(qMember)
+                    .set(qMember.isEnabled, "T")
+                    .set(qMember.infoVersion, nextInfoVersion(qMember))
+                    .set(qMember.lastUpdate, LocalDateTime.now())
+                    .where(qMember.id.eq(memberId)
+                            .and(qMember.isEnabled.ne("T").or(qMember.isEnabled.isNull())))
+                    .execute();
+            if (updated > 0) {
+                publishMemberChanged(memberId);
+            }
         } catch (Exception e) {
             throw new IllegalArgumentException("사용자 승인 중 오류가 발생했습니다.");
         }
@@ -115,7 +156,7 @@ public class MemberService {
         try {
             Member newMember = Member.builder()
                     .account(registerRequestDto.getAccount().trim())
-                    .password(Bcrypt.encode(registerRequestDto.getPassword()))
+                    .password(passwordHashExecutor.encode(registerRequestDto.getPassword()))
                     .name(registerRequestDto.getName().trim())
                     .email(registerRequestDto.getEmail().trim())
                     .tel(Optional.ofNullable(registerRequestDto.getTel()).map(String::trim).orElse(null)) // 전화번호
@@ -128,6 +169,11 @@ public class MemberService {
                     .build();
 
             memberRepository.save(newMember);
+            memberExistenceFilter.addAccount(newMember.getAccount());
+            memberExistenceFilter.addEmail(newMember.getEmail());
+        } catch (ServiceBusyException e) {
+            // 비밀번호 해시 대기열 초과는 503으로 응답
+            throw e;
         } catch (Exception e) {
             e.printStackTrace();
             throw new IllegalArgumentException("회원가입 중 오류가 발생했습니다.");
@@ -147,7 +193,7 @@ public class MemberService {
                 throw new IllegalArgumentException("비밀번호 정보가 누락되었습니다.");
             }
 
-            if (!Bcrypt.matches(requestDto.getCurrentPassword(), member.getPassword())) {
+            if (!passwordHashExecutor.matches(requestDto.getCurrentPassword(), member.getPassword())) {
                 throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
             }
 
@@ -157,11 +203,15 @@ public class MemberService {
 
             validatePassword(requestDto.getNewPassword1(), PASSWORD_LENGTH, null, null);
 
-            member.changePassword(Bcrypt.encode(requestDto.getNewPassword1()));
+            member.changePassword(passwordHashExecutor.encode(requestDto.getNewPassword1()));
             member.enableUser();
             memberRepository.save(member);
+            publishMemberChanged(member.getId());
 
 
+        } catch (ServiceBusyException e) {
+            // 비밀번호 해시 대기열 초과는 503으로 응답
+            throw e;
         } catch (Exception e) {
             log.error("비밀번호 변경 실패: {}", e.getMessage());
             throw new IllegalArgumentException("비밀번호 변경 실패");
@@ -172,49 +222,136 @@ public class MemberService {
     /**
      * 이메일 변경
      */
-    public void changeEmail(String newEmail, Member member) {
+    public void changeEmail(String newEmail, String memberId) {
         if (newEmail == null || newEmail.trim().isEmpty()) {
             throw new IllegalArgumentException("이메일 정보가 누락되었습니다.");
         }
-        member.changeEmail(newEmail);
+        if (!Member.isValidEmail(newEmail)) {
+            throw new IllegalArgumentException("올바른 이메일 형식을 입력하세요.");
+        }
+
+        QMember qMember = QMember.member;
+        // 다른 사용자가 사용 중인 이메일 거부 (동시 변경은 email unique 제약으로 실패)
+        Integer duplicated = jpaQueryFactory.selectOne()
+                .from(qMember)
+                .where(qMember.email.eq(newEmail)
+                        .and(qMember.id.ne(memberId)))
+                .fetchFirst();
+        if (duplicated != null) {
+            throw new IllegalArgumentException("이미 사용중인 이메일입니다.");
+        }
+
+        long updated;
         try {
-            memberRepository.save(member);
+            updated = jpaQueryFactory.update(qMember)
+                    .set(qMember.email, newEmail)
+                    .set(qMember.infoVersion, nextInfoVersion(qMember))
+                    .set(qMember.lastUpdate, LocalDateTime.now())
+                    .where(qMember.id.eq(memberId))
+                    .execute();
         } catch (Exception e) {
             throw new IllegalArgumentException("이메일 변경 실패");
         }
+        if (updated == 0) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+        memberExistenceFilter.addEmail(newEmail);
+        publishMemberChanged(memberId);
     }
 
     /**
-     * 사용자 추가 정보 변경
+     * 사용자 추가 정보 변경 (JSON merge patch).
+     * 요청에 포함된 항목만 변경한다. (null이면 삭제, 이름은 삭제 불가)
+     * 인증 시 조회된 회원 정보의 버전을 조건으로 UPDATE 한 번만 수행하고, 응답은 그 회원 정보에 변경 값을 반영해 만든다.
+     * 인증 이후 다른 요청으로 정보가 바뀌어 조건이 맞지 않는 경우에만 버전 조건 없이 변경 후 다시 조회한다.
      */
     public InfoResponseDto changeInfo(DataChangeRequestDto requestDto, Member member) {
-
-        Optional<Member> byId = memberRepository.findById(member.getId());
-        if(byId.isEmpty()){
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        if (requestDto == null) {
+            throw new IllegalArgumentException("변경 정보가 누락되었습니다.");
+        }
+        if (requestDto.isPresent("name") && !StringUtils.hasText(requestDto.getName())) {
+            throw new IllegalArgumentException("이름은 비울 수 없습니다.");
         }
 
-        Member saved = byId.get();
-
-
-        saved.setName(requestDto.getName());
-        saved.setCountry(requestDto.getCountry());
-        saved.setGender(requestDto.getGender());
-        saved.setBirthDate(requestDto.getBirthDate());
-        saved.setLastUpdate(LocalDateTime.now());
+        QMember qMember = QMember.member;
+        String memberId = member.getId();
+        long knownVersion = member.getCurrentInfoVersion();
+        LocalDateTime now = LocalDateTime.now();
+
+        long updated = applyInfoPatch(jpaQueryFactory.update(qMember), requestDto)
+                .set(qMember.infoVersion, knownVersion + 1)
+                .set(qMember.lastUpdate, now)
+                .where(qMember.id.eq(memberId),
+                        qMember.infoVersion.coalesce(0L).eq(knownVersion))
+                .execute();
+        if (updated > 0) {
+            publishMemberChanged(memberId);
+            return InfoResponseDto.builder()
+                    .memberId(memberId)
+                    .isEnabled(member.getIsEnabled())
+                    .email(member.getEmail())
+                    .name(requestDto.isPresent("name") ? requestDto.getName() : member.getName())
+                    .gender(requestDto.isPresent("gender") ? requestDto.getGender() : member.getGender())
+                    .birthDate(requestDto.isPresent("birthDate") ? requestDto.getBirthDate() : member.getBirthDate())
+                    .country(requestDto.isPresent("country") ? requestDto.getCountry() : member.getCountry())
+                    .lastUpdate(now)
+                    .infoVersion(knownVersion + 1)
+                    .build();
+        }
 
-        Member changed = memberRepository.save(saved);
+        // 인증 이후 정보가 변경된 경우
+        updated = applyInfoPatch(jpaQueryFactory.update(qMember), requestDto)
+                .set(qMember.infoVersion, nextInfoVersion(qMember))
+                .set(qMember.lastUpdate, now)
+                .where(qMember.id.eq(memberId))
+                .execute();
+        if (updated == 0) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+        publishMemberChanged(memberId);
+
+        return jpaQueryFactory
+                .select(Projections.fields(InfoResponseDto.class,
+                        qMember.id.as("memberId"),
+                        qMember.isEnabled,
+                        qMember.name,
+                        qMember.email,
+                        qMember.gender,
+                        qMember.birthDate,
+                        qMember.country,
+                        qMember.lastUpdate,
+                        qMember.infoVersion))
+                .from(qMember)
+                .where(qMember.id.eq(memberId))
+                .fetchOne();
+    }
 
-        return InfoResponseDto.builder()
-                .memberId(changed.getId())
-                .isEnabled(changed.getIsEnabled())
-                .name(changed.getName())
-                .email(changed.getEmail())
-                .gender(changed.getGender())
-                .birthDate(changed.getBirthDate())
-                .country(changed.getCountry())
-                .lastUpdate(changed.getLastUpdate())
-                .build();
+    /**
+     * 요청에 포함된 추가 정보 항목을 UPDATE에 반영
+     */
+    private JPAUpdateClause applyInfoPatch(JPAUpdateClause update, DataChangeRequestDto requestDto) {
+        QMember qMember = QMember.member;
+        boolean changed = false;
+        if (requestDto.isPresent("name")) {
+            update.set(qMember.name, requestDto.getName());
+            changed = true;
+        }
+        if (requestDto.isPresent("country")) {
+            update.set(qMember.country, requestDto.getCountry());
+            changed = true;
+        }
+        if (requestDto.isPresent("gender")) {
+            update.set(qMember.gender, requestDto.getGender());
+            changed = true;
+        }
+        if (requestDto.isPresent("birthDate")) {
+            update.set(qMember.birthDate, requestDto.getBirthDate());
+            changed = true;
+        }
+        if (!changed) {
+            throw new IllegalArgumentException("변경할 정보가 없습니다.");
+        }
+        return update;
     }
 
     /**
@@ -250,61 +387,97 @@ public class MemberService {
                 randomPassword = "12345678";
             }
 
-            MailHandler mailHandler = new MailHandler(mailSender);
-            mailHandler.setTo(member.getEmail());
-            mailHandler.setSubject("비밀번호 초기화");
-            mailHandler.setText("초기화 비밀번호 : " + randomPassword, false);
-            mailHandler.send();
-
-
-            mailHandler.setText("초기화 비밀번호 : " + randomPassword, false);
-            mailHandler.send();
-
             // 비밀번호 변경 및 저장
-            member.changePassword(Bcrypt.encode(randomPassword));
+            member.changePassword(passwordHashExecutor.encode(randomPassword));
             memberRepository.save(member);
+            publishMemberChanged(member.getId());
+
+            // 아웃박스 등록 (커밋 후 발송)
+            outboxService.enqueueMail(new MailMessage(member.getEmail(), "비밀번호 초기화", "초기화 비밀번호 : " + randomPassword, false));
 
-        } catch (MailSendException e) {
-            log.error("비밀번호 초기화 메일 발송 실패: {}", e.getMessage());
-            throw new MailSendException("비밀번호 초기화 메일 발송에 실패했습니다", e);
+        } catch (ServiceBusyException e) {
+            // 비밀번호 해시 대기열 초과는 503으로 응답
+            throw e;
         } catch (Exception e) {
             throw new IllegalArgumentException("비밀번호 초기화 실패");
         }
     }
 
     /**
-     * 유저정보 최신화 요청
+     * TOTP 비밀키 발급 (코드 확인 전까지 로그인에 사용되지 않음)
      */
-    public InfoResponseDto latestInfo(Member member) throws Exception {
-
-        try {
-            if (member.getIsEnabled().equals("T")) {
-                LocalDateTime lastUpdate = member.getLastUpdate();
+    public InfoResponseDto provisionTotp(Member member) {
+        // 사용 중인 비밀키는 해제(현재 코드 확인) 후에만 재발급
+        if (member.isTotpActive()) {
+            throw new IllegalArgumentException("TOTP가 이미 사용 중입니다. 해제 후 다시 발급하세요.");
+        }
+        String secret = totpGenerator.generateSecret();
+        member.registerTotpSecret(dataEncryptor.encrypt(secret));
+        memberRepository.save(member);
+
+        InfoResponseDto responseDto = new InfoResponseDto();
+        responseDto.setTotpSecret(secret);
+        responseDto.setTotpUri(totpGenerator.provisioningUri(member.getAccount(), secret));
+        return responseDto;
+    }
 
-                LocalDateTime now = LocalDateTime.now();
+    /**
+     * 인증 앱 코드 확인 후 TOTP 사용
+     */
+    public void enableTotp(DataChangeRequestDto requestDto, Member member) {
+        if (member.getTotpSecret() == null) {
+            throw new IllegalArgumentException("TOTP 비밀키가 발급되지 않았습니다.");
+        }
+        if (!totpGenerator.verify(member.getId(), dataEncryptor.decrypt(member.getTotpSecret()), requestDto.getCode())) {
+            throw new IllegalArgumentException("OTP 코드가 일치하지 않습니다.");
+        }
+        member.enableTotp();
+        memberRepository.save(member);
+    }
 
-                //마지막 수정일이 마지막 전송일보다 최근일경우 사용자정보전달
-                if (lastUpdate == null || LocalDateTime.now().isAfter(lastUpdate)) {
+    /**
+     * 현재 인증 앱 코드 확인 후 TOTP 해제 (서버 OTP + 푸시 방식으로 복귀)
+     */
+    public void disableTotp(DataChangeRequestDto requestDto, Member member) {
+        if (!member.isTotpActive()) {
+            throw new IllegalArgumentException("TOTP를 사용하고 있지 않습니다.");
+        }
+        redisService.assertNotLocked(member.getId());
+        String code = requestDto != null ? requestDto.getCode() : null;
+        if (!totpGenerator.verify(member.getId(), dataEncryptor.decrypt(member.getTotpSecret()), code)) {
+            redisService.authFailureCountHandler(member.getId());
+            throw new IllegalArgumentException("OTP 코드가 일치하지 않습니다.");
+        }
+        member.disableTotp();
+        memberRepository.save(member);
+    }
 
-                    member.updateDate(now);
-                    memberRepository.save(member);
+    /**
+     * 유저정보 최신화 요청.
+     * 클라이언트가 마지막으로 받은 버전과 현재 버전이 같으면 null (변경 없음)을 반환한다.
+     * 조회만 수행하며 DB에 쓰지 않는다.
+     * 변경된 경우 변경 필드만이 아닌 전체 정보(승인 여부, 이름, 이메일, 수정일)를 반환한다.
+     * 버전은 회원 단위 카운터라 필드별 변경 이력이 없고, 응답이 작아 차이 계산의 이득이 없다.
+     * @param knownVersion 클라이언트가 마지막으로 받은 정보 버전 (없으면 항상 전달)
+     */
+    public InfoResponseDto latestInfo(Member member, Long knownVersion) {
+        if (!"T".equals(member.getIsEnabled())) {
+            throw new IllegalArgumentException("미승인 사용자.");
+        }
 
-                    return InfoResponseDto.builder()
-                            .memberId(member.getId())
-                            .isEnabled(member.getIsEnabled())
-                            .name(member.getName())
-                            .email(member.getEmail())
-                            .lastUpdate(member.getLastUpdate())
-                            .build();
-                } else {
-                    throw new IllegalArgumentException("수정된 정보가 없습니다.");
-                }
-            } else {
-                throw new IllegalArgumentException("미승인 사용자.");
-            }
-        } catch (Exception e) {
-            throw new IllegalArgumentException("정보 조회 중 오류가 발생했습니다.");
+        long currentVersion = member.getCurrentInfoVersion();
+        if (knownVersion != null && knownVersion == currentVersion) {
+            return null;
         }
+
+        return InfoResponseDto.builder()
+                .memberId(member.getId())
+                .isEnabled(member.getIsEnabled())
+                .name(member.getName())
+                .email(member.getEmail())
+                .lastUpdate(member.getLastUpdate())
+                .infoVersion(currentVersion)
+                .build();
     }
 
     /**
@@ -351,20 +524,17 @@ public class MemberService {
             // 계정 비활성화
             member.disableUser();
 
-            // 이메일 발송
-            MailHandler mailHandler = new MailHandler(mailSender);
-            mailHandler.setTo(member.getEmail());
-            mailHandler.setSubject("비밀번호 초기화");
-            mailHandler.setText("초기화 비밀번호 : " + randomPassword, false);
-            mailHandler.send();
-
             // 비밀번호 변경 및 저장
-            member.changePassword(Bcrypt.encode(randomPassword));
+            member.changePassword(passwordHashExecutor.encode(randomPassword));
             memberRepository.save(member);
+            publishMemberChanged(member.getId());
 
-        } catch (MailSendException e) {
-            log.error("비밀번호 초기화 메일 발송 실패: {}", e.getMessage());
-            throw new MailSendException("비밀번호 초기화 메일 발송에 실패했습니다", e);
+            // 아웃박스 등록 (커밋 후 발송)
+            outboxService.enqueueMail(new MailMessage(member.getEmail(), "비밀번호 초기화", "초기화 비밀번호 : " + randomPassword, false));
+
+        } catch (ServiceBusyException e) {
+            // 비밀번호 해시 대기열 초과는 503으로 응답
+            throw e;
         } catch (Exception e) {
             log.error("비밀번호 초기화 중 오류 발생: {}", e.getMessage());
             throw new IllegalArgumentException("비밀번호 초기화 처리 중 오류가 발생했습니다");
@@ -379,6 +549,11 @@ public class MemberService {
             throw new IllegalArgumentException("계정 정보가 누락되었습니다.");
         }
 
+        // 필터에 없으면 미사용 확실
+        if (!memberExistenceFilter.mightContainAccount(authRequestDto.getAccount())) {
+            return;
+        }
+
         QMember qMember = QMember.member;
         String result = jpaQueryFactory
                 .select(qMember.account)
@@ -399,6 +574,11 @@ public class MemberService {
             throw new IllegalArgumentException("유효하지 않은 이메일 형식입니다.");
         }
 
+        // 필터에 없으면 미사용 확실
+        if (!memberExistenceFilter.mightContainEmail(email)) {
+            return;
+        }
+
         QMember qMember = QMember.member;
         String result = jpaQueryFactory
                 .select(qMember.email)
@@ -414,10 +594,10 @@ public class MemberService {
     /**
      * 로그인시 전송된 사용자id와 로그인에 사용된 계정이 같은 사용자임을 검증 후 fcm토큰 저장. id값 리턴.
      */
-    public void initFCM(AuthRequestDto request, Member member) {
+    public String initFCM(AuthRequestDto request, String memberId) {
         try {
             // null 체크 추가
-            if (request == null || member == null) {
+            if (request == null || memberId == null) {
                 throw new IllegalArgumentException("요청 정보가 누락되었습니다.");
             }
 
@@ -427,12 +607,19 @@ public class MemberService {
 
             // ID 검증 로직
             String requestId = request.getId();
-            if (requestId == null || (!requestId.equals(member.getId()) && !requestId.equals("0"))) {
+            if (requestId == null || (!requestId.equals(memberId) && !requestId.equals("0"))) {
                 throw new IllegalArgumentException("기기당 하나의 계정만 사용 가능합니다.");
             }
 
-            member.updateFcmToken(request.getFirebaseToken().trim());
-            memberRepository.save(member);
+            // 토큰이 같으면 UPDATE 생략
+            String token = request.getFirebaseToken().trim();
+            QMember qMember = QMember.member;
+            jpaQueryFactory.update(qMember)
+                    .set(qMember.firebaseToken, token)
+                    .where(qMember.id.eq(memberId)
+                            .and(qMember.firebaseToken.isNull().or(qMember.firebaseToken.ne(token))))
+                    .execute();
+            return token;
 
         } catch (Exception e) {
             log.error("FCM 토큰 초기화 중 오류 발생: {}", e.getMessage());
@@ -456,6 +643,7 @@ public class MemberService {
                     .set(qMember.firebaseToken, "")
                     .where(qMember.id.eq(member.getId()))
                     .execute();
+            publishMemberChanged(member.getId());
 
         } catch (Exception e) {
             log.error("회원탈퇴 처리 중 오류 발생: {}", e.getMessage());
@@ -466,12 +654,26 @@ public class MemberService {
     /**
      * ban 여부를 체크하면서 객체를 리턴함
      */
-    public Member checkBan(String account) {
+    public LoginMemberDto checkBan(String account) {
         QMember qMember = QMember.member;
-        Member member = jpaQueryFactory.selectFrom(qMember).where(
-                qMember.account.eq(account)
-                        .and(qMember.isBanned.eq("F"))
-        ).fetchOne();
+        QRole qRole = QRole.role;
+        // 로그인에 필요한 컬럼만 계정(unique) 인덱스로 조회
+        LoginMemberDto member = jpaQueryFactory
+                .select(Projections.constructor(LoginMemberDto.class,
+                        qMember.id,
+                        qMember.account,
+                        qMember.password,
+                        qMember.isEnabled,
+                        qMember.isBanned,
+                        qRole.name,
+                        qMember.firebaseToken,
+                        qMember.totpEnabled,
+                        qMember.totpSecret))
+                .from(qMember)
+                .leftJoin(qMember.role, qRole)
+                .where(qMember.account.eq(account)
+                        .and(qMember.isBanned.eq("F")))
+                .fetchOne();
 
         if (member == null) {
             throw new AccessDeniedException("사용자 접속 차단됨");
@@ -480,6 +682,20 @@ public class MemberService {
         return member;
     }
 
+    /**
+     * 회원 정보 변경 이벤트 발행. 커밋 후 사용자 정보 캐시 무효화
+     */
+    private void publishMemberChanged(String memberId) {
+        eventPublisher.publishEvent(new MemberChangedEvent(memberId));
+    }
+
+    /**
+     * UPDATE 문에서 사용할 정보 변경 버전 증가식
+     */
+    private static NumberExpression<Long> nextInfoVersion(QMember qMember) {
+        return qMember.infoVersion.coalesce(0L).add(1L);
+    }
+
     /**
      * 길이 유효성 검사 (minLen 이상)
      */
@@ -1,43 +1,67 @@
 package org.almagestauth.service;
 
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.almagestauth.domain.entity.Member;
 import org.almagestauth.domain.entity.Otp;
+import org.almagestauth.domain.entity.QMember;
 import org.almagestauth.domain.repository.MemberRepository;
-import org.almagestauth.domain.repository.OtpRepository;
 import org.almagestauth.dto.AuthRequestDto;
 import org.almagestauth.dto.DataChangeRequestDto;
+import org.almagestauth.dto.LoginMemberDto;
 import org.almagestauth.dto.OtpTokenDto;
 import org.almagestauth.exception.r400.IllegalArgumentException;
 import org.almagestauth.utils.OtpGenerator;
 import org.almagestauth.utils.RedisService;
-import org.almagestauth.utils.encoder.Bcrypt;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.almagestauth.utils.TotpGenerator;
+import org.almagestauth.utils.encoder.DataEncryptor;
+import org.almagestauth.utils.encoder.PasswordHashExecutor;
+import org.almagestauth.utils.otp.OtpStore;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class OtpService {
 
-    private final OtpRepository otpRepository;
+    private final OtpStore otpStore;
     private final MemberRepository memberRepository;
     private final OtpGenerator otpGenerator;
     private final RedisService redisService;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final TotpGenerator totpGenerator;
+    private final JPAQueryFactory jpaQueryFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final DataEncryptor dataEncryptor;
 
     /**사용자의 로그인정보가 일치하면 renew()를 호출해 Otp정보를 생성/갱신
      * 로그인정보가 일치하지않으면 예외를 발생시킨다. 
      */
-    public OtpTokenDto auth(AuthRequestDto requestDto, Member member) {
+    public OtpTokenDto auth(AuthRequestDto requestDto, LoginMemberDto member) {
 
         if(requestDto == null || member == null){
             throw new IllegalArgumentException("인증 정보 누락");
         }
 
-        if (Bcrypt.matches(requestDto.getPassword(), member.getPassword())) {
-            return renewOtp(member);
+        // 잠금 상태면 비밀번호 해시 검증 전에 거부
+        redisService.assertNotLocked(member.getId());
+
+        if (passwordHashExecutor.matches(requestDto.getPassword(), member.getPassword())) {
+            upgradePasswordHash(requestDto.getPassword(), member);
+            // TOTP 사용자는 서버 OTP 생성/저장 없이 인증 앱 코드로 확인
+            // 토큰 발급 시 비밀번호 단계를 거쳤는지 확인할 수 있도록 OTP 유효 시간 동안 표시
+            if (member.isTotpActive()) {
+                redisService.markPasswordVerified(member.getId(), OtpGenerator.OTP_VALID_MINUTES * 60 * 1000);
+                OtpTokenDto otpTokenDto = new OtpTokenDto();
+                otpTokenDto.setId(member.getId());
+                return otpTokenDto;
+            }
+            return renewOtp(member.getId(), member.getAccount());
         } else {
             // 인증 실패 카운트 추가 및 잠금처리
             redisService.authFailureCountHandler(member.getId());
@@ -45,6 +69,29 @@ public class OtpService {
         }
     }
 
+    /**
+     * 저장된 해시의 알고리즘/비용이 현재 설정과 다르면 재해시 후 저장.
+     * 실패해도 로그인은 계속 진행한다.
+     */
+    private void upgradePasswordHash(String plainPassword, LoginMemberDto member) {
+        if (!passwordHashExecutor.needsUpgrade(member.getPassword())) {
+            return;
+        }
+        try {
+            String encoded = passwordHashExecutor.encode(plainPassword);
+            QMember qMember = QMember.member;
+            // 동시 로그인으로 이미 갱신된 경우 덮어쓰지 않음
+            transactionTemplate.executeWithoutResult(status -> jpaQueryFactory.update(qMember)
+                    .set(qMember.password, encoded)
+                    .where(qMember.id.eq(member.getId())
+                            .and(qMember.password.eq(member.getPassword())))
+                    .execute());
+            log.info("비밀번호 해시 갱신: memberId={}", member.getId());
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 갱신 실패: memberId={}, {}", member.getId(), e.getMessage());
+        }
+    }
+
     /**
      *  이메일 인증 코드 전송
      */
@@ -54,7 +101,7 @@ public class OtpService {
             otpGenerator.generateOtp(member);
         }
         // 생성된 OTP 조회
-        Optional<Otp> savedOtp = otpRepository.findById(member.getId());
+        Optional<Otp> savedOtp = otpStore.findByMemberId(member.getId());
 
         if(savedOtp.isEmpty()){
             throw new IllegalArgumentException("OTP 정보 없음");
@@ -67,52 +114,36 @@ public class OtpService {
      */
     public void check(DataChangeRequestDto requestDto, Member member) {
 
-        if(requestDto == null){
+        if(requestDto == null || requestDto.getCode() == null){
             throw new IllegalArgumentException("인증 정보 누락");
         }
 
-        // OTP 조회
-        Otp otp = otpRepository.findById(member.getId())
-                .orElseThrow(() -> new IllegalArgumentException("OTP를 찾을 수 없습니다."));
-
         // 테스트 계정 처리 (테스트 계정은 OTP 코드만 확인)
         if ("tester12".equals(member.getAccount())) {
+            Otp otp = otpStore.findByMemberId(member.getId())
+                    .orElseThrow(() -> new IllegalArgumentException("OTP를 찾을 수 없습니다."));
             if(!requestDto.getCode().equals(otp.getCode())){
                 throw new IllegalArgumentException("OTP 불일치");
             }
             return;
         }
 
-        // OTP 만료 여부 확인
-        if (otp.getExpireTime().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("OTP가 만료되었습니다.");
-        }
-
-        // OTP 코드 확인
-        if (!requestDto.getCode().equals(otp.getCode())) {
-            throw new IllegalArgumentException("OTP 코드가 일치하지 않습니다.");
-        }
-
-        // OTP 사용 여부 확인
-        if (otp.isUsed()) {
-            throw new IllegalArgumentException("이미 사용된 OTP입니다.");
-        }
-
-
-        try {
-            // OTP 사용 처리
-            otp.setUsed(true);
-            otpRepository.save(otp);
-        }catch (Exception e){
-            throw new IllegalArgumentException("인증정보 처리 중 오류가 발생했습니다");
+        // OTP 확인 및 사용 처리 (원자 연산)
+        switch (otpStore.consume(member.getId(), requestDto.getCode())) {
+            case CONSUMED -> {
+            }
+            case NOT_FOUND -> throw new IllegalArgumentException("OTP를 찾을 수 없습니다.");
+            case EXPIRED -> throw new IllegalArgumentException("OTP가 만료되었습니다.");
+            case MISMATCH -> throw new IllegalArgumentException("OTP 코드가 일치하지 않습니다.");
+            case USED -> throw new IllegalArgumentException("이미 사용된 OTP입니다.");
         }
     }
 
     /**
      *  사용자 식별자를 받아서 Otp객체를 만들고 otp코드를 생성하고 리턴한다. 
      */
-    private OtpTokenDto renewOtp(Member member) {
-        Otp otp = otpGenerator.generateOtp(member);
+    private OtpTokenDto renewOtp(String memberId, String account) {
+        Otp otp = otpGenerator.generateOtp(memberId, account);
 
         OtpTokenDto otpTokenDto = new OtpTokenDto();
 
@@ -126,39 +157,77 @@ public class OtpService {
      *  otp로 토큰발급시 otp에 저장된 식별자로 사용자정보를 조회해 리턴한다. 
      */
     public Member extractUserFromOtp(AuthRequestDto authRequestDto) {
-        Optional<Otp> userOtp = Optional.empty();
+        boolean byId = authRequestDto.getId() != null && !authRequestDto.getId().isEmpty();
+        boolean byAccount = authRequestDto.getAccount() != null && !authRequestDto.getAccount().isEmpty();
 
-        // ID로 Otp 조회
-        if (authRequestDto.getId() != null && !authRequestDto.getId().isEmpty()) {
-            userOtp = otpRepository.findById(authRequestDto.getId());
-            if (userOtp.isEmpty()) {
-                throw new IllegalArgumentException("ID를 통한 OTP 조회 실패.");
-            }
+        // 필수 입력값 누락 시 예외 처리
+        if (!byId && !byAccount) {
+            throw new IllegalArgumentException("ID 또는 계정을 입력해야 합니다.");
         }
 
-        // Account로 Otp 조회
-        else if (authRequestDto.getAccount() != null && !authRequestDto.getAccount().isEmpty()) {
-            Optional<Member> byAccount = memberRepository.findByAccount(authRequestDto.getAccount());
-            if (byAccount.isEmpty()) {
-                throw new IllegalArgumentException("계정을 통한 사용자 조회 실패.");
-            }
+        // 사용자와 OTP를 한 번에 조회
+        OtpStore.OtpTarget target = otpStore.findTarget(authRequestDto.getId(), authRequestDto.getAccount())
+                .orElseThrow(() -> new IllegalArgumentException(byId ? "ID를 통한 사용자 조회 실패." : "계정을 통한 사용자 조회 실패."));
+
+        if (target.otp() == null) {
+            throw new IllegalArgumentException(byId ? "ID를 통한 OTP 조회 실패." : "계정을 통한 OTP 조회 실패.");
+        }
+        return target.member();
+    }
+
 
-            Member member = byAccount.get();
-            userOtp = otpRepository.findById(member.getId());
-            if (userOtp.isEmpty()) {
-                throw new IllegalArgumentException("계정을 통한 OTP 조회 실패.");
+    /**
+     * 토큰 발급용 로그인 코드 확인 후 사용자 반환.
+     * 사용자와 OTP를 한 번의 조회로 가져와 실패 사유를 판별하고, 일치하는 경우에만 사용 처리(UPDATE)한다.
+     * TOTP 사용자는 auth()의 비밀번호 확인 표시를 사용 처리한 뒤 인증 앱 코드를 계산으로 확인한다.
+     * @param principalMemberId 로그인 상태인 경우 현재 사용자 ID (요청의 id/account보다 우선)
+     */
+    public Member checkLoginCode(AuthRequestDto authRequestDto, String principalMemberId) {
+        String memberId = principalMemberId != null ? principalMemberId : authRequestDto.getId();
+        String account = principalMemberId != null ? null : authRequestDto.getAccount();
+
+        if ((memberId == null || memberId.isEmpty()) && (account == null || account.isEmpty())) {
+            throw new IllegalArgumentException("사용자 정보 누락");
+        }
+
+        OtpStore.OtpTarget target = otpStore.findTarget(memberId, account)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        Member member = target.member();
+        String code = authRequestDto.getCode();
+
+        if (member.isTotpActive()) {
+            redisService.assertNotLocked(member.getId());
+            // 비밀번호 확인 표시를 먼저 사용 처리 (코드 불일치 시에도 비밀번호부터 다시 진행)
+            if (!redisService.consumePasswordVerified(member.getId())) {
+                throw new IllegalArgumentException("비밀번호 인증이 필요합니다.");
             }
+            if (!totpGenerator.verify(member.getId(), dataEncryptor.decrypt(member.getTotpSecret()), code)) {
+                redisService.authFailureCountHandler(member.getId());
+                throw new IllegalArgumentException("OTP 코드가 일치하지 않습니다.");
+            }
+            return member;
         }
 
-        // 필수 입력값 누락 시 예외 처리
-        else {
-            throw new IllegalArgumentException("ID 또는 계정을 입력해야 합니다.");
+        Otp otp = target.otp();
+        if (otp == null) {
+            throw new IllegalArgumentException("인증정보 조회 실패.");
+        }
+        if (otp.isUsed()) {
+            throw new IllegalArgumentException("이미 사용된 OTP.");
+        }
+        if (code == null || !code.equals(otp.getCode())) {
+            redisService.authFailureCountHandler(member.getId());
+            throw new IllegalArgumentException("OTP 코드가 일치하지 않습니다.");
+        }
+        if (otp.getExpireTime().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("OTP 기간 만료.");
         }
 
-        return userOtp.get().getMember();
+        // 동시 요청 대비 원자적 사용 처리
+        consumeOtp(member.getId(), code);
+        return member;
     }
 
-
     /**
      *  Otp객체의 code가 db에 저장된 값과 일치하는지, 시간이 만료되었는지, 이미 사용되었는지 검증한다.
      */
@@ -178,33 +247,29 @@ public class OtpService {
             throw new IllegalArgumentException("사용자 정보 누락");
         }
 
-        // OTP 조회
-        Optional<Otp> userOtp = otpRepository.findById(memberId);
-
-        if (userOtp.isEmpty()) {
-            throw new IllegalArgumentException("인증정보 조회 실패.");
-        }
-
-        Otp otp = userOtp.get();
-
-        // OTP가 이미 사용되었는지 확인
-        if (otp.isUsed()) {
-            throw new IllegalArgumentException("이미 사용된 OTP.");
-        }
-
-        // OTP 코드 확인
-        if (authRequestDto.getCode() == null || !authRequestDto.getCode().equals(otp.getCode())) {
+        // OTP 코드 누락
+        if (authRequestDto.getCode() == null) {
             redisService.authFailureCountHandler(memberId);
             throw new IllegalArgumentException("OTP 코드가 일치하지 않습니다.");
         }
 
-        // OTP 만료 여부 확인
-        if (otp.getExpireTime().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("OTP 기간 만료.");
-        }
+        consumeOtp(memberId, authRequestDto.getCode());
+    }
 
-        // OTP 사용 처리
-        otp.setUsed(true);
-        otpRepository.save(otp);
+    /**
+     * OTP 확인 및 사용 처리 (원자 연산)
+     */
+    private void consumeOtp(String memberId, String code) {
+        switch (otpStore.consume(memberId, code)) {
+            case CONSUMED -> {
+            }
+            case NOT_FOUND -> throw new IllegalArgumentException("인증정보 조회 실패.");
+            case USED -> throw new IllegalArgumentException("이미 사용된 OTP.");
+            case MISMATCH -> {
+                redisService.authFailureCountHandler(memberId);
+                throw new IllegalArgumentException("OTP 코드가 일치하지 않습니다.");
+            }
+            case EXPIRED -> throw new IllegalArgumentException("OTP 기간 만료.");
+        }
     }
 }
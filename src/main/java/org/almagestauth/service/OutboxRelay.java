@@ -0,0 +1,273 @@
+package org.almagestauth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.Notification;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.domain.entity.Outbox;
+import org.almagestauth.domain.entity.QOutbox;
+import org.almagestauth.utils.encoder.DataEncryptor;
+import org.almagestauth.utils.mail.MailDispatcher;
+import org.almagestauth.utils.mail.MailMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스 발송.
+ * 커밋 직후 trigger()로 해당 건을 발송하고, 실패/누락 건은 주기적으로 조회해 재발송한다.
+ * 발송 전 조건부 UPDATE로 선점해 여러 노드가 같은 건을 중복 발송하지 않도록 한다.
+ * 발송은 트랜잭션 밖에서 수행하고 상태 변경만 짧은 트랜잭션으로 처리한다.
+ * 발송 내용은 암호화되어 있으며, 발송 완료/최종 실패 시 삭제하고 발송 완료 건은 보관 기간 후 삭제한다.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+    private final JPAQueryFactory jpaQueryFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final DataEncryptor dataEncryptor;
+    private final MailDispatcher mailDispatcher;
+    private final FirebaseMessaging firebaseMessaging;
+    private final ExecutorService executor;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long staleMillis;
+    private final long retentionMillis;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(JPAQueryFactory jpaQueryFactory,
+                       TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper,
+                       DataEncryptor dataEncryptor,
+                       MailDispatcher mailDispatcher,
+                       FirebaseMessaging firebaseMessaging,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.batch-size:100}") int batchSize,
+                       @Value("${outbox.max-attempts:5}") int maxAttempts,
+                       @Value("${outbox.backoff-ms:5000}") long backoffMillis,
+                       @Value("${outbox.stale-ms:300000}") long staleMillis,
+                       @Value("${outbox.retention-ms:604800000}") long retentionMillis) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.dataEncryptor = dataEncryptor;
+        this.mailDispatcher = mailDispatcher;
+        this.firebaseMessaging = firebaseMessaging;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.staleMillis = staleMillis;
+        this.retentionMillis = retentionMillis;
+
+        this.executor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-relay");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.sentCounter = Counter.builder("outbox.relay")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("outbox.relay")
+                .tag("result", "retry")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋 직후 발송 요청. 대기열이 가득 찬 경우 주기 조회에서 발송된다.
+     */
+    public void trigger(Long outboxId) {
+        try {
+            executor.execute(() -> relay(outboxId));
+        } catch (RejectedExecutionException e) {
+            log.warn("아웃박스 즉시 발송 대기열 초과, 주기 발송으로 처리: id={}", outboxId);
+        }
+    }
+
+    /**
+     * 발송 대기/처리 지연 건 주기 발송
+     */
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:10000}")
+    public void relayDue() {
+        LocalDateTime now = LocalDateTime.now();
+        QOutbox qOutbox = QOutbox.outbox;
+
+        List<Long> dueIds = jpaQueryFactory
+                .select(qOutbox.id)
+                .from(qOutbox)
+                .where(qOutbox.status.eq(Outbox.Status.PENDING).and(qOutbox.nextAttemptAt.loe(now))
+                        .or(qOutbox.status.eq(Outbox.Status.PROCESSING).and(qOutbox.claimedAt.lt(now.minusNanos(staleMillis * 1_000_000L)))))
+                .orderBy(qOutbox.id.asc())
+                .limit(batchSize)
+                .fetch();
+
+        dueIds.forEach(this::relay);
+    }
+
+    private void relay(Long outboxId) {
+        if (!claim(outboxId)) {
+            return;
+        }
+
+        Outbox outbox = jpaQueryFactory.selectFrom(QOutbox.outbox)
+                .where(QOutbox.outbox.id.eq(outboxId))
+                .fetchOne();
+        if (outbox == null) {
+            return;
+        }
+
+        try {
+            deliver(outbox);
+            complete(outboxId);
+            sentCounter.increment();
+        } catch (Exception e) {
+            fail(outbox, e.getMessage());
+        }
+    }
+
+    private void deliver(Outbox outbox) throws Exception {
+        String payload = dataEncryptor.decrypt(outbox.getPayload());
+        switch (outbox.getType()) {
+            case MAIL -> mailDispatcher.sendNow(objectMapper.readValue(payload, MailMessage.class));
+            case PUSH -> {
+                OutboxService.PushMessage push = objectMapper.readValue(payload, OutboxService.PushMessage.class);
+                Message.Builder builder = Message.builder()
+                        .setToken(push.token())
+                        .setNotification(Notification.builder().setTitle(push.title()).build());
+                if (push.data() != null) {
+                    builder.putAllData(push.data());
+                }
+                firebaseMessaging.send(builder.build());
+            }
+        }
+    }
+
+    /**
+     * 발송 선점 (대기 중이고 발송 시각이 된 건, 또는 처리 지연된 건)
+     */
+    private boolean claim(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        QOutbox qOutbox = QOutbox.outbox;
+        Long updated = transactionTemplate.execute(status -> jpaQueryFactory.update(qOutbox)
+                .set(qOutbox.status, Outbox.Status.PROCESSING)
+                .set(qOutbox.claimedAt, now)
+                .set(qOutbox.attempts, qOutbox.attempts.add(1))
+                .where(qOutbox.id.eq(outboxId),
+                        qOutbox.status.eq(Outbox.Status.PENDING).and(qOutbox.nextAttemptAt.loe(now))
+                                .or(qOutbox.status.eq(Outbox.Status.PROCESSING).and(qOutbox.claimedAt.lt(now.minusNanos(staleMillis * 1_000_000L)))))
+                .execute());
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 발송 완료. 발송 내용(인증 코드, 임시 비밀번호)은 삭제
+     */
+    private void complete(Long outboxId) {
+        QOutbox qOutbox = QOutbox.outbox;
+        transactionTemplate.executeWithoutResult(status -> jpaQueryFactory.update(qOutbox)
+                .set(qOutbox.status, Outbox.Status.SENT)
+                .set(qOutbox.sentAt, LocalDateTime.now())
+                .setNull(qOutbox.payload)
+                .setNull(qOutbox.lastError)
+                .where(qOutbox.id.eq(outboxId))
+                .execute());
+    }
+
+    /**
+     * 발송 실패. 최대 시도 횟수 이내면 백오프 후 재시도, 아니면 FAILED (발송 내용 삭제)
+     */
+    private void fail(Outbox outbox, String error) {
+        QOutbox qOutbox = QOutbox.outbox;
+        // claim에서 증가된 시도 횟수
+        int attempts = outbox.getAttempts();
+        String lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+        boolean exhausted = attempts >= maxAttempts;
+
+        if (exhausted) {
+            failedCounter.increment();
+            log.error("아웃박스 발송 최종 실패: id={}, type={}, attempts={}, {}", outbox.getId(), outbox.getType(), attempts, error);
+        } else {
+            retryCounter.increment();
+            log.warn("아웃박스 발송 실패, 재시도 예정: id={}, type={}, attempts={}, {}", outbox.getId(), outbox.getType(), attempts, error);
+        }
+
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(backoffMillis * (1L << Math.min(attempts - 1, 16)) * 1_000_000L);
+        transactionTemplate.executeWithoutResult(status -> {
+            JPAUpdateClause update = jpaQueryFactory.update(qOutbox)
+                    .set(qOutbox.status, exhausted ? Outbox.Status.FAILED : Outbox.Status.PENDING)
+                    .set(qOutbox.nextAttemptAt, nextAttemptAt)
+                    .set(qOutbox.lastError, lastError);
+            if (exhausted) {
+                update.setNull(qOutbox.payload);
+            }
+            update.where(qOutbox.id.eq(outbox.getId())).execute();
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료 건 삭제
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}", initialDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purgeSent() {
+        QOutbox qOutbox = QOutbox.outbox;
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000L);
+
+        long purged = 0;
+        List<Long> ids;
+        do {
+            ids = jpaQueryFactory
+                    .select(qOutbox.id)
+                    .from(qOutbox)
+                    .where(qOutbox.status.eq(Outbox.Status.SENT), qOutbox.sentAt.lt(cutoff))
+                    .orderBy(qOutbox.id.asc())
+                    .limit(batchSize)
+                    .fetch();
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> batch = ids;
+            Long deleted = transactionTemplate.execute(status -> jpaQueryFactory.delete(qOutbox)
+                    .where(qOutbox.id.in(batch), qOutbox.status.eq(Outbox.Status.SENT))
+                    .execute());
+            purged += deleted == null ? 0 : deleted;
+        } while (ids.size() == batchSize);
+
+        if (purged > 0) {
+            log.info("아웃박스 발송 완료 건 삭제: {}건", purged);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,74 @@
+package org.almagestauth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.domain.entity.Outbox;
+import org.almagestauth.domain.repository.OutboxRepository;
+import org.almagestauth.exception.r500.CodeGenerationException;
+import org.almagestauth.utils.encoder.DataEncryptor;
+import org.almagestauth.utils.mail.MailMessage;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * 아웃박스 등록.
+ * 호출한 트랜잭션과 함께 저장되며, 커밋 후 OutboxRelay에 즉시 발송을 요청한다.
+ * 발송 내용에는 인증 코드/임시 비밀번호가 포함되므로 암호화해 저장한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxService {
+    private final OutboxRepository outboxRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+    private final DataEncryptor dataEncryptor;
+
+    /**
+     * 메일 발송 등록
+     */
+    public void enqueueMail(MailMessage message) {
+        enqueue(Outbox.Type.MAIL, message);
+    }
+
+    /**
+     * FCM 푸시 발송 등록
+     */
+    public void enqueuePush(PushMessage message) {
+        enqueue(Outbox.Type.PUSH, message);
+    }
+
+    private void enqueue(Outbox.Type type, Object message) {
+        String payload;
+        try {
+            payload = dataEncryptor.encrypt(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new CodeGenerationException("발송 정보 생성 실패");
+        }
+
+        Outbox outbox = outboxRepository.save(new Outbox(type, payload));
+        Long outboxId = outbox.getId();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.trigger(outboxId);
+                }
+            });
+        } else {
+            outboxRelay.trigger(outboxId);
+        }
+    }
+
+    /**
+     * FCM 푸시 발송 내용
+     */
+    public record PushMessage(String token, String title, Map<String, String> data) {
+    }
+}
@@ -8,12 +8,15 @@ import org.almagestauth.domain.entity.SignKey;
 import org.almagestauth.exception.r500.CodeGenerationException;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
 import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
+import java.util.List;
 
 @Service
 @Slf4j
@@ -35,6 +38,29 @@ public class SignKeyService {
         }
     }
 
+    /**
+     *  서비스의 서명 키를 id 오름차순으로 불러옴 (검증용)
+     */
+    public List<SignKey> getSignKeys(String serviceName) {
+        QSignKey qSignKey = QSignKey.signKey;
+        return query.selectFrom(qSignKey)
+                .where(qSignKey.service.eq(serviceName))
+                .orderBy(qSignKey.id.asc())
+                .fetch();
+    }
+
+    /**
+     *  서비스의 가장 최근(id가 큰) 서명 키를 불러옴 (서명용)
+     */
+    public SignKey getLatestSignKey(String serviceName) {
+        QSignKey qSignKey = QSignKey.signKey;
+        return query.selectFrom(qSignKey)
+                .where(qSignKey.service.eq(serviceName))
+                .orderBy(qSignKey.id.desc())
+                .limit(1)
+                .fetchOne();
+    }
+
     /**
      * privatekey 문자열로부터 복원
      */
@@ -53,7 +79,7 @@ public class SignKeyService {
     /**
      * publicKey 문자열로부터 복원
      */
-    public Key toPublicKey(String publicKey) {
+    public PublicKey toPublicKey(String publicKey) {
         try {
             byte[] decoded = Base64.getDecoder().decode(publicKey);
             X509EncodedKeySpec keySpec = new X509EncodedKeySpec(decoded);
@@ -64,4 +90,21 @@ public class SignKeyService {
             throw new CodeGenerationException("토큰 검증 오류.");
         }
     }
+
+    /**
+     * RSA privateKey로부터 대응하는 publicKey 복원
+     */
+    public PublicKey toPublicKey(PrivateKey privateKey) {
+        if (!(privateKey instanceof RSAPrivateCrtKey rsaPrivateKey)) {
+            throw new CodeGenerationException("공개 키를 복원할 수 없는 서명 키입니다.");
+        }
+        try {
+            RSAPublicKeySpec keySpec = new RSAPublicKeySpec(rsaPrivateKey.getModulus(), rsaPrivateKey.getPublicExponent());
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            return keyFactory.generatePublic(keySpec);
+        }catch (Exception e){
+            log.error("공개 키 복원 중 오류 발생.", e);
+            throw new CodeGenerationException("토큰 검증 오류.");
+        }
+    }
 }
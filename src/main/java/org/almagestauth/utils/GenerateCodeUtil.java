@@ -2,11 +2,8 @@ package org.almagestauth.utils;
 
 import org.springframework.stereotype.Component;
 
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
-import java.util.Random;
-import org.almagestauth.exception.r500.CodeGenerationException;
 
 //Otp코드 생성 클래스
 @Component
@@ -18,13 +15,8 @@ public final class GenerateCodeUtil {
 
     //otp코드 생성
     public static String generateOtpCode() {
-        try {
-            SecureRandom random = SecureRandom.getInstanceStrong();
-            int c = random.nextInt(9000) + 1000;
-            return String.valueOf(c);
-        } catch (NoSuchAlgorithmException e) {
-            throw new CodeGenerationException("OPT 생성 중 오류가 발생했습니다");
-        }
+        int c = SecureRandomSource.get().nextInt(9000) + 1000;
+        return String.valueOf(c);
     }
 
     //임의 비밀번호 생성
@@ -32,7 +24,7 @@ public final class GenerateCodeUtil {
         int leftLimit = 48; // numeral '0'
         int rightLimit = 122; // letter 'z'
         int targetStringLength = 10;
-        Random random = new Random();
+        SecureRandom random = SecureRandomSource.get();
         String randomPassword = random.ints(leftLimit, rightLimit + 1)
                 .filter(i -> (i <= 57 || i >= 65) && (i <= 90 || i >= 97))
                 .limit(targetStringLength)
@@ -43,14 +35,9 @@ public final class GenerateCodeUtil {
     }
 
     public static String generateTokenVerifyString() {
-        try {
-            int tokenLength = 32;
-            byte[] randomBytes = new byte[tokenLength];
-            SecureRandom secureRandom = SecureRandom.getInstanceStrong();
-            secureRandom.nextBytes(randomBytes);
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
-        } catch (NoSuchAlgorithmException e) {
-            throw new CodeGenerationException("토큰 생성 중 오류가 발생했습니다");
-        }
+        int tokenLength = 32;
+        byte[] randomBytes = new byte[tokenLength];
+        SecureRandomSource.get().nextBytes(randomBytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
     }
 }
@@ -3,7 +3,7 @@ package org.almagestauth.utils;
 import lombok.RequiredArgsConstructor;
 import org.almagestauth.domain.entity.Member;
 import org.almagestauth.domain.entity.Otp;
-import org.almagestauth.domain.repository.OtpRepository;
+import org.almagestauth.utils.otp.OtpStore;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -11,25 +11,32 @@ import java.time.LocalDateTime;
 @Component
 @RequiredArgsConstructor
 public class OtpGenerator {
-    private final OtpRepository otpRepository;
+    // OTP 유효 시간(분)
+    public static final long OTP_VALID_MINUTES = 10;
+
+    private final OtpStore otpStore;
 
     public Otp generateOtp(Member member){
+        return generateOtp(member.getId(), member.getAccount());
+    }
+
+    public Otp generateOtp(String memberId, String account){
         try {
             Otp otp = new Otp();
             String code = GenerateCodeUtil.generateOtpCode();
             // 테스트 계정은 OTP 고정값
-            if(member.getAccount().equals("tester12")){
+            if("tester12".equals(account)){
                 code = "0000";
             }
             LocalDateTime now = LocalDateTime.now();
 
-            otp.setMemberId(member.getId());
+            otp.setMemberId(memberId);
             otp.setCode(code);
             otp.setCreatedTime(now);
-            otp.setExpireTime(now.plusMinutes(10));
+            otp.setExpireTime(now.plusMinutes(OTP_VALID_MINUTES));
             otp.setUsed(false);
 
-            return otpRepository.save(otp);
+            return otpStore.save(otp);
         }catch (Exception e){
             throw new IllegalArgumentException("OTP 생성 실패");
         }
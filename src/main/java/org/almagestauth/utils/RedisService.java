@@ -8,9 +8,13 @@ import org.almagestauth.common.constants.RedisKeyConstants;
 import org.almagestauth.exception.r400.AuthFailureException;
 import org.almagestauth.exception.r406.AccessDeniedException;
 import org.almagestauth.exception.r500.RedisSessionException;
+import org.almagestauth.utils.cache.ExpiringLruCache;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Component
@@ -22,6 +26,19 @@ public class RedisService {
     private static final int MAX_FAILURE_COUNT = 5;
     private static final String LOCKED_STATUS = "locked";
 
+    // 잠금 상태 로컬 미러 (잠금 해제 시각까지 Redis 조회 생략)
+    private final ExpiringLruCache<String, Boolean> lockedMirror = new ExpiringLruCache<>(10000);
+
+    /**
+     * 잠금 상태 조회 스크립트. locked 상태면 잔여 TTL(ms), 아니면 -1
+     */
+    private static final DefaultRedisScript<Long> LOCK_STATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('PTTL', KEYS[1]) " +
+            "end " +
+            "return -1",
+            Long.class);
+
 
     /**
      * Redis 키 생성
@@ -31,54 +48,122 @@ public class RedisService {
     }
 
     /**
-     * 실패 카운터 처리 통합 메서드
-     * 1. Redis 조회
-     * 2. locked 상태 확인
-     * 3. 없으면 카운터 생성 (값=1)
-     * 4. 카운터 증가 처리 (1-4 사이)
-     * 5. 최대 실패시 잠금 처리 (count=5)
+     * 실패 카운터 처리 스크립트 (단일 원자 연산)
+     * 1. locked 상태면 {-1, 잔여 TTL}
+     * 2. 카운터 증가 (기존 TTL 유지, 없으면 잠금 지속 시간으로 설정)
+     * 3. 최대 실패 횟수 도달시 locked로 전환 후 {-2, 잠금 TTL}
+     * 4. 그 외 {count, 잔여 TTL}
      */
-    public void authFailureCountHandler(String id) {
+    private static final DefaultRedisScript<List<Long>> AUTH_FAILURE_SCRIPT = longListScript(
+            "local value = redis.call('GET', KEYS[1]) " +
+            "if value == ARGV[1] then " +
+            "  return {-1, redis.call('TTL', KEYS[1])} " +
+            "end " +
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if redis.call('TTL', KEYS[1]) < 0 then " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "end " +
+            "if count >= tonumber(ARGV[3]) then " +
+            "  redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) " +
+            "  return {-2, tonumber(ARGV[2])} " +
+            "end " +
+            "return {count, redis.call('TTL', KEYS[1])}");
+
+    /**
+     * 정수 배열을 반환하는 Lua 스크립트 생성 (Redis 정수 응답은 Long으로 변환된다)
+     */
+    @SuppressWarnings("unchecked")
+    private static DefaultRedisScript<List<Long>> longListScript(String script) {
+        return new DefaultRedisScript<>(script, (Class<List<Long>>) (Class<?>) List.class);
+    }
+
+    /**
+     * 인증 실패 기록.
+     * 카운트 증가, TTL 유지, 잠금 전환을 Redis 스크립트 한 번으로 처리하고 결과를 반환한다.
+     */
+    public AuthFailureResult recordAuthFailure(String id) {
         String key = generateRedisKey(RedisKeyConstants.FAILURE_PREFIX, id);
-        int count = 0;
+        List<Long> result;
+        try {
+            result = redisTemplate.execute(
+                    AUTH_FAILURE_SCRIPT,
+                    Collections.singletonList(key),
+                    LOCKED_STATUS,
+                    String.valueOf(LOCK_DURATION * 60L),
+                    String.valueOf(MAX_FAILURE_COUNT)
+            );
+        } catch (Exception e) {
+            log.error("실패 카운트 처리 중 오류 발생: id={}, {}", id, e.getMessage());
+            throw new RedisSessionException("인증 상태 처리 중 오류 발생");
+        }
 
-        // 1. Redis 조회
-        String value = redisTemplate.opsForValue().get(key);
+        if (result == null || result.size() < 2 || result.get(0) == null || result.get(1) == null) {
+            throw new RedisSessionException("인증 상태 처리 중 오류 발생");
+        }
 
+        long code = result.get(0);
+        long ttl = result.get(1);
 
-        // 2. locked 상태 확인
-        if (LOCKED_STATUS.equals(value)) {
-            log.warn("계정 잠금 상태: id={}", id);
+        if (code == -1) {
+            return new AuthFailureResult(MAX_FAILURE_COUNT, true, true, ttl);
+        }
+        if (code == -2) {
+            return new AuthFailureResult(MAX_FAILURE_COUNT, true, false, ttl);
+        }
+        return new AuthFailureResult((int) code, false, false, ttl);
+    }
+
+    /**
+     * 잠금 상태 사전 확인 (비밀번호 해시 검증 전 호출)
+     * 로컬 미러 또는 Redis 조회 한 번으로 잠금 여부를 확인하고, 잠금 상태면 즉시 거부한다.
+     * Redis 조회 실패 시에는 인증 절차를 막지 않는다.
+     */
+    public void assertNotLocked(String id) {
+        if (lockedMirror.get(id) != null) {
             throw new AccessDeniedException("계정이 잠금 상태입니다. " + LOCK_DURATION + "분 후에 다시 시도해주세요.");
         }
 
-        // 3. 값이 없으면 카운터 생성 (값=1)
-        if (value == null) {
-            count = 1;
-            redisTemplate.opsForValue().set(key, String.valueOf(count), LOCK_DURATION, TimeUnit.MINUTES);
-            log.debug("실패 카운터 생성: id={}, count=1", id);
-            throw new AuthFailureException("인증 정보 불일치. Count : " + count, count);
+        String key = generateRedisKey(RedisKeyConstants.FAILURE_PREFIX, id);
+        Long remainingMillis;
+        try {
+            remainingMillis = redisTemplate.execute(LOCK_STATE_SCRIPT, Collections.singletonList(key), LOCKED_STATUS);
+        } catch (Exception e) {
+            log.warn("잠금 상태 조회 실패: id={}, {}", id, e.getMessage());
+            return;
+        }
+
+        if (remainingMillis != null && remainingMillis > 0) {
+            lockedMirror.put(id, Boolean.TRUE, System.currentTimeMillis() + remainingMillis);
+            log.warn("계정 잠금 상태: id={}", id);
+            throw new AccessDeniedException("계정이 잠금 상태입니다. " + LOCK_DURATION + "분 후에 다시 시도해주세요.");
         }
+    }
 
-        // 4. 현재 카운트 확인 및 증가
-        count = Integer.parseInt(value);
-        count++;
+    /**
+     * 실패 카운터 처리 통합 메서드
+     * 실패 기록 후 결과에 따라 예외 발생
+     * - 이미 잠금 상태 / 최대 실패 도달 : AccessDeniedException
+     * - 그 외 : AuthFailureException (count 포함)
+     */
+    public void authFailureCountHandler(String id) {
+        AuthFailureResult result = recordAuthFailure(id);
 
-        // 기존 TTL 유지
-        Long remainingTtl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-        long ttl = (remainingTtl != null && remainingTtl > 0) ? remainingTtl : LOCK_DURATION * 60L;
+        if (result.locked() && result.ttlSeconds() > 0) {
+            lockedMirror.put(id, Boolean.TRUE, System.currentTimeMillis() + result.ttlSeconds() * 1000L);
+        }
+
+        if (result.alreadyLocked()) {
+            log.warn("계정 잠금 상태: id={}", id);
+            throw new AccessDeniedException("계정이 잠금 상태입니다. " + LOCK_DURATION + "분 후에 다시 시도해주세요.");
+        }
 
-        // 5. 최대 실패 횟수 도달시 잠금 처리
-        if (count >= MAX_FAILURE_COUNT) {
-            redisTemplate.opsForValue().set(key, LOCKED_STATUS, LOCK_DURATION, TimeUnit.MINUTES);
+        if (result.locked()) {
             log.warn("계정 잠금 처리: id={}", id);
             throw new AccessDeniedException("인증 시도 횟수를 초과했습니다. " + LOCK_DURATION + "분 후에 다시 시도해주세요.");
         }
 
-        // 증가된 카운트 저장 (기존 TTL 유지)
-        redisTemplate.opsForValue().set(key, String.valueOf(count), ttl, TimeUnit.SECONDS);
-        log.debug("실패 카운트 증가: id={}, count={}, remainingTtl={}s", id, count, ttl);
-        throw new AuthFailureException("인증 정보 불일치. Count : " + count, count);
+        log.debug("실패 카운트 증가: id={}, count={}, remainingTtl={}s", id, result.count(), result.ttlSeconds());
+        throw new AuthFailureException("인증 정보 불일치. Count : " + result.count(), result.count());
     }
 
     /**
@@ -87,6 +172,7 @@ public class RedisService {
     public void resetStatus(String id) {
         String failKey = generateRedisKey(RedisKeyConstants.FAILURE_PREFIX, id);
         String refreshKey = generateRedisKey(RedisKeyConstants.REFRESH_TOKEN_PREFIX, id);
+        lockedMirror.remove(id);
         try {
             redisTemplate.delete(failKey);
             redisTemplate.delete(refreshKey);
@@ -96,6 +182,46 @@ public class RedisService {
         }
     }
 
+    /**
+     * 비밀번호 확인 완료 표시 저장 (TOTP 코드 확인 전 단계)
+     */
+    public void markPasswordVerified(String id, long expiration) {
+        String key = generateRedisKey(RedisKeyConstants.PASSWORD_VERIFIED_PREFIX, id);
+        try {
+            redisTemplate.opsForValue().set(key, "1", expiration, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new RedisSessionException("인증 상태 저장 중 오류 발생");
+        }
+    }
+
+    /**
+     * 비밀번호 확인 완료 표시 사용 (원자적 삭제).
+     * 표시가 있었으면 true, 없거나 조회 실패 시 false
+     */
+    public boolean consumePasswordVerified(String id) {
+        String key = generateRedisKey(RedisKeyConstants.PASSWORD_VERIFIED_PREFIX, id);
+        try {
+            return Boolean.TRUE.equals(redisTemplate.delete(key));
+        } catch (Exception e) {
+            log.error("비밀번호 확인 표시 처리 실패: id={}, {}", id, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * TOTP 시간 단계 사용 기록 (SET NX).
+     * 처음 사용된 경우 true, 이미 사용되었거나 기록 실패 시 false
+     */
+    public boolean markTotpStepUsed(String memberId, long step, long ttlSeconds) {
+        String key = RedisKeyConstants.TOTP_USED_PREFIX + memberId + ":" + step;
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, "1", ttlSeconds, TimeUnit.SECONDS));
+        } catch (Exception e) {
+            log.error("TOTP 사용 기록 실패: memberId={}, {}", memberId, e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * 리프레시 토큰 검증 문자열 저장
      */
@@ -119,4 +245,71 @@ public class RedisService {
             throw new RedisSessionException("토큰 정보 조회 중 오류 발생");
         }
     }
+
+    /**
+     * 재발급된 Access 토큰 저장 (동시 재발급 요청 간 공유)
+     */
+    public void setReissuedAccessToken(String refreshTokenHash, String accessToken, long expiration) {
+        String key = generateRedisKey(RedisKeyConstants.REISSUED_TOKEN_PREFIX, refreshTokenHash);
+        try {
+            redisTemplate.opsForValue().set(key, accessToken, expiration, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            throw new RedisSessionException("토큰 정보 저장 중 오류 발생");
+        }
+    }
+
+    /**
+     * 재발급된 Access 토큰 조회
+     */
+    public String getReissuedAccessToken(String refreshTokenHash) {
+        String key = generateRedisKey(RedisKeyConstants.REISSUED_TOKEN_PREFIX, refreshTokenHash);
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            throw new RedisSessionException("토큰 정보 조회 중 오류 발생");
+        }
+    }
+
+    /**
+     * 회원 정보 캐시 무효화 메시지 발행 (다른 노드 전파)
+     */
+    public void publishMemberInvalidation(String id) {
+        try {
+            redisTemplate.convertAndSend(RedisKeyConstants.MEMBER_INVALIDATION_CHANNEL, id);
+        } catch (Exception e) {
+            log.error("회원 캐시 무효화 메시지 발행 실패: id={}, {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * 가입 계정/이메일 필터 추가 전파
+     */
+    public void publishMemberExistence(String value) {
+        try {
+            redisTemplate.convertAndSend(RedisKeyConstants.MEMBER_EXISTENCE_CHANNEL, value);
+        } catch (Exception e) {
+            log.error("회원 존재 필터 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 앱 버전 변경 전파 (다른 노드의 스냅샷 갱신)
+     */
+    public void publishAppVersionChanged(String versionCode) {
+        try {
+            redisTemplate.convertAndSend(RedisKeyConstants.APP_VERSION_CHANNEL, versionCode);
+        } catch (Exception e) {
+            log.error("앱 버전 변경 메시지 발행 실패: versionCode={}, {}", versionCode, e.getMessage());
+        }
+    }
+
+    /**
+     * 인증 실패 기록 결과
+     * @param count 현재 실패 횟수
+     * @param locked 잠금 상태 여부
+     * @param alreadyLocked 기록 이전부터 잠금 상태였는지 여부
+     * @param ttlSeconds 카운터/잠금 잔여 시간(초)
+     */
+    public record AuthFailureResult(int count, boolean locked, boolean alreadyLocked, long ttlSeconds) {
+    }
 }
@@ -0,0 +1,42 @@
+package org.almagestauth.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * 스레드별 SecureRandom 제공.
+ * 호출마다 SecureRandom.getInstanceStrong()을 생성하면 /dev/random 대기로 지연될 수 있어
+ * 비차단 알고리즘(DRBG → NativePRNGNonBlocking 순)의 인스턴스를 스레드마다 하나씩 재사용한다.
+ */
+@Slf4j
+public final class SecureRandomSource {
+    private static final String[] ALGORITHMS = {"DRBG", "NativePRNGNonBlocking"};
+
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SecureRandomSource::create);
+
+    private SecureRandomSource() {
+    }
+
+    /**
+     * 현재 스레드의 SecureRandom
+     */
+    public static SecureRandom get() {
+        return RANDOM.get();
+    }
+
+    private static SecureRandom create() {
+        for (String algorithm : ALGORITHMS) {
+            try {
+                SecureRandom random = SecureRandom.getInstance(algorithm);
+                // 최초 호출 시 시드 초기화
+                random.nextInt();
+                return random;
+            } catch (NoSuchAlgorithmException e) {
+                log.debug("SecureRandom 알고리즘 미지원: {}", algorithm);
+            }
+        }
+        return new SecureRandom();
+    }
+}
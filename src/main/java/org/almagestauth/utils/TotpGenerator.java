@@ -0,0 +1,150 @@
+package org.almagestauth.utils;
+
+import org.almagestauth.exception.r500.CodeGenerationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+/**
+ * RFC 6238 TOTP (HMAC-SHA1, 30초, 6자리) 생성/검증.
+ * 검증은 계산만으로 수행하며, 같은 시간 단계의 코드 재사용은 Redis(SET NX)로 모든 노드에서 차단한다.
+ */
+@Component
+public class TotpGenerator {
+    private static final String ISSUER = "Almagest";
+    private static final String HMAC_ALGORITHM = "HmacSHA1";
+    private static final String BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+    private static final int SECRET_BYTES = 20;
+    private static final int DIGITS = 6;
+    private static final int MODULUS = 1_000_000;
+    private static final long TIME_STEP_SECONDS = 30;
+
+    private final RedisService redisService;
+
+    // 허용 시간 오차 (앞뒤 단계 수)
+    private final int window;
+
+    public TotpGenerator(RedisService redisService, @Value("${totp.window:1}") int window) {
+        this.redisService = redisService;
+        this.window = window;
+    }
+
+    /**
+     * 신규 비밀키 생성 (Base32)
+     */
+    public String generateSecret() {
+        byte[] secret = new byte[SECRET_BYTES];
+        SecureRandomSource.get().nextBytes(secret);
+        return base32Encode(secret);
+    }
+
+    /**
+     * 인증 앱 등록용 otpauth URI
+     */
+    public String provisioningUri(String account, String secret) {
+        String label = URLEncoder.encode(ISSUER + ":" + account, StandardCharsets.UTF_8).replace("+", "%20");
+        return "otpauth://totp/" + label
+                + "?secret=" + secret
+                + "&issuer=" + ISSUER
+                + "&algorithm=SHA1&digits=" + DIGITS
+                + "&period=" + TIME_STEP_SECONDS;
+    }
+
+    /**
+     * 코드 검증. 허용 오차 내 시간 단계와 일치하고 이전에 사용되지 않은 경우 true
+     */
+    public boolean verify(String memberId, String secret, String code) {
+        return verify(memberId, secret, code, System.currentTimeMillis());
+    }
+
+    /**
+     * 지정 시각 기준 코드 검증
+     */
+    boolean verify(String memberId, String secret, String code, long epochMillis) {
+        if (secret == null || code == null || code.length() != DIGITS) {
+            return false;
+        }
+
+        byte[] key = base32Decode(secret);
+        long currentStep = epochMillis / 1000 / TIME_STEP_SECONDS;
+
+        for (long step = currentStep - window; step <= currentStep + window; step++) {
+            String expected = generateCode(key, step);
+            if (MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII), code.getBytes(StandardCharsets.US_ASCII))) {
+                return markUsed(memberId, step);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 사용된 시간 단계 기록. 이미 사용된 단계면 false.
+     * 한 단계의 코드는 step - window ~ step + window 동안 유효하므로 (2 * window + 1) 단계만큼 보관한다.
+     */
+    private boolean markUsed(String memberId, long step) {
+        return redisService.markTotpStepUsed(memberId, step, (2L * window + 1) * TIME_STEP_SECONDS);
+    }
+
+    private String generateCode(byte[] key, long step) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+            byte[] hash = mac.doFinal(ByteBuffer.allocate(Long.BYTES).putLong(step).array());
+
+            int offset = hash[hash.length - 1] & 0x0f;
+            int binary = ((hash[offset] & 0x7f) << 24)
+                    | ((hash[offset + 1] & 0xff) << 16)
+                    | ((hash[offset + 2] & 0xff) << 8)
+                    | (hash[offset + 3] & 0xff);
+
+            return String.format("%0" + DIGITS + "d", binary % MODULUS);
+        } catch (GeneralSecurityException e) {
+            throw new CodeGenerationException("TOTP 생성 중 오류가 발생했습니다");
+        }
+    }
+
+    private static String base32Encode(byte[] data) {
+        StringBuilder result = new StringBuilder();
+        int buffer = 0;
+        int bits = 0;
+        for (byte b : data) {
+            buffer = (buffer << 8) | (b & 0xff);
+            bits += 8;
+            while (bits >= 5) {
+                result.append(BASE32_ALPHABET.charAt((buffer >> (bits - 5)) & 0x1f));
+                bits -= 5;
+            }
+        }
+        if (bits > 0) {
+            result.append(BASE32_ALPHABET.charAt((buffer << (5 - bits)) & 0x1f));
+        }
+        return result.toString();
+    }
+
+    private static byte[] base32Decode(String encoded) {
+        String normalized = encoded.replace("=", "").replace(" ", "").toUpperCase();
+        ByteBuffer result = ByteBuffer.allocate(normalized.length() * 5 / 8);
+        int buffer = 0;
+        int bits = 0;
+        for (char c : normalized.toCharArray()) {
+            int value = BASE32_ALPHABET.indexOf(c);
+            if (value < 0) {
+                throw new CodeGenerationException("잘못된 TOTP 비밀키입니다");
+            }
+            buffer = (buffer << 5) | value;
+            bits += 5;
+            if (bits >= 8) {
+                result.put((byte) ((buffer >> (bits - 8)) & 0xff));
+                bits -= 8;
+            }
+        }
+        return result.array();
+    }
+}
@@ -0,0 +1,123 @@
+package org.almagestauth.utils.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 크기 제한 근사 LRU 캐시.
+ * ConcurrentHashMap 기반으로 조회/저장 시 전역 잠금을 사용하지 않는다.
+ * 항목별 만료 시각을 가지며 만료된 항목은 조회 시 제거된다.
+ * 최대 크기를 넘으면 한 스레드만 정리를 수행해 만료 항목과 마지막 조회가 오래된 항목부터 제거한다.
+ * (정리 중 잠시 최대 크기를 넘을 수 있고, 정리 후 크기는 최대 크기의 90%)
+ */
+public class ExpiringLruCache<K, V> {
+    private final int maxSize;
+    private final int trimSize;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public ExpiringLruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.trimSize = Math.max(maxSize - maxSize / 10, 1);
+    }
+
+    /**
+     * 조회. 없거나 만료된 경우 null
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (entry.expiresAt <= now) {
+            entries.remove(key, entry);
+            return null;
+        }
+        entry.lastAccess = now;
+        return entry.value;
+    }
+
+    /**
+     * 저장
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    public void put(K key, V value, long expiresAt) {
+        long now = System.currentTimeMillis();
+        if (expiresAt <= now) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, expiresAt, now));
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 만료 항목 제거 후에도 최대 크기를 넘으면 마지막 조회가 오래된 항목부터 trimSize까지 제거
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.entrySet().removeIf(e -> e.getValue().expiresAt <= now);
+            int excess = entries.size() - trimSize;
+            if (entries.size() <= maxSize || excess <= 0) {
+                return;
+            }
+
+            // 정렬 중 조회 시각이 바뀌지 않도록 고정된 값으로 정렬
+            List<Candidate<K, V>> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+                candidates.add(new Candidate<>(e.getKey(), e.getValue(), e.getValue().lastAccess));
+            }
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                Candidate<K, V> candidate = candidates.get(i);
+                entries.remove(candidate.key(), candidate.entry());
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private record Candidate<K, V>(K key, Entry<V> entry, long lastAccess) {
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(V value, long expiresAt, long lastAccess) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package org.almagestauth.utils.encoder;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 암호화 (bcrypt / Argon2id 선택)
+ * calibrate 설정 시 시작 시점에 해시 시간을 측정해 목표 지연시간에 맞는 비용을 선택한다.
+ * 저장된 해시의 알고리즘/비용이 현재 설정과 다르면 upgradeEncoding()이 true를 반환한다.
+ */
+@Component
+@Slf4j
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+    private static final String ALGORITHM_BCRYPT = "bcrypt";
+    private static final String ALGORITHM_ARGON2ID = "argon2id";
+
+    private static final String ARGON2_PREFIX = "$argon2";
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final Pattern ARGON2_PARAMS_PATTERN = Pattern.compile("^\\$argon2id\\$v=\\d+\\$(m=\\d+,t=\\d+,p=\\d+)\\$");
+
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int MAX_ARGON2_ITERATIONS = 10;
+
+    // Argon2 기본값 (해시 길이가 password 컬럼(VARCHAR(100))을 넘지 않도록 고정)
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+
+    private static final String CALIBRATION_SAMPLE = "calibration-Sample!1";
+
+    @Value("${password-hash.algorithm:bcrypt}")
+    private String algorithm;
+
+    @Value("${password-hash.calibrate:false}")
+    private boolean calibrate;
+
+    @Value("${password-hash.target-ms:250}")
+    private long targetMillis;
+
+    @Value("${password-hash.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password-hash.argon2.memory-kb:16384}")
+    private int argon2MemoryKb;
+
+    @Value("${password-hash.argon2.iterations:2}")
+    private int argon2Iterations;
+
+    private volatile PasswordEncoder encoder;
+    private final PasswordEncoder bcryptVerifier = new BCryptPasswordEncoder();
+    private volatile Argon2PasswordEncoder argon2Verifier;
+
+    @PostConstruct
+    public void init() {
+        argon2Verifier = argon2(argon2Iterations);
+
+        if (ALGORITHM_ARGON2ID.equalsIgnoreCase(algorithm)) {
+            algorithm = ALGORITHM_ARGON2ID;
+            if (calibrate) {
+                argon2Iterations = calibrateArgon2();
+            }
+            encoder = argon2(argon2Iterations);
+            log.info("비밀번호 해시 설정: algorithm=argon2id, m={}, t={}, p={}", argon2MemoryKb, argon2Iterations, ARGON2_PARALLELISM);
+        } else {
+            algorithm = ALGORITHM_BCRYPT;
+            if (calibrate) {
+                bcryptStrength = calibrateBcrypt();
+            }
+            encoder = new BCryptPasswordEncoder(bcryptStrength);
+            log.info("비밀번호 해시 설정: algorithm=bcrypt, strength={}", bcryptStrength);
+        }
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encoder.encode(rawPassword);
+    }
+
+    /**
+     * 저장된 해시의 형식(prefix)으로 알고리즘을 판별해 검증
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        if (encodedPassword.startsWith(ARGON2_PREFIX)) {
+            return argon2Verifier.matches(rawPassword, encodedPassword);
+        }
+        return bcryptVerifier.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * 저장된 해시가 현재 알고리즘/비용과 다르면 true (로그인 성공 시 재해시 대상)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+
+        if (ALGORITHM_ARGON2ID.equals(algorithm)) {
+            Matcher matcher = ARGON2_PARAMS_PATTERN.matcher(encodedPassword);
+            return !matcher.find() || !matcher.group(1).equals(argon2Params());
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != bcryptStrength;
+    }
+
+    /**
+     * 목표 지연시간 이하인 최대 bcrypt 비용 선택
+     */
+    private int calibrateBcrypt() {
+        int selected = MIN_BCRYPT_STRENGTH;
+        // 워밍업
+        new BCryptPasswordEncoder(MIN_BCRYPT_STRENGTH).encode(CALIBRATION_SAMPLE);
+
+        for (int strength = MIN_BCRYPT_STRENGTH; strength <= MAX_BCRYPT_STRENGTH; strength++) {
+            long elapsed = measure(new BCryptPasswordEncoder(strength));
+            log.info("bcrypt 비용 측정: strength={}, {}ms", strength, elapsed);
+            if (elapsed > targetMillis) {
+                break;
+            }
+            selected = strength;
+        }
+        return selected;
+    }
+
+    /**
+     * 목표 지연시간 이하인 최대 Argon2 반복 횟수 선택 (메모리는 설정값 고정)
+     */
+    private int calibrateArgon2() {
+        int selected = 1;
+        argon2(1).encode(CALIBRATION_SAMPLE);
+
+        for (int iterations = 1; iterations <= MAX_ARGON2_ITERATIONS; iterations++) {
+            long elapsed = measure(argon2(iterations));
+            log.info("argon2id 비용 측정: m={}, t={}, {}ms", argon2MemoryKb, iterations, elapsed);
+            if (elapsed > targetMillis) {
+                break;
+            }
+            selected = iterations;
+        }
+        return selected;
+    }
+
+    /**
+     * 2회 측정 중 짧은 시간(ms)
+     */
+    private long measure(PasswordEncoder candidate) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            candidate.encode(CALIBRATION_SAMPLE);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000L);
+        }
+        return best;
+    }
+
+    private Argon2PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, ARGON2_PARALLELISM, argon2MemoryKb, iterations);
+    }
+
+    private String argon2Params() {
+        return "m=" + argon2MemoryKb + ",t=" + argon2Iterations + ",p=" + ARGON2_PARALLELISM;
+    }
+}
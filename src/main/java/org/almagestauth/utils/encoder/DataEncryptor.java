@@ -0,0 +1,96 @@
+package org.almagestauth.utils.encoder;
+
+import org.almagestauth.exception.r500.CodeGenerationException;
+import org.almagestauth.utils.SecureRandomSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 민감데이터(TOTP 비밀키, 발송 대기 메일 등)의 DB저장용 암호화.
+ * AES-256-GCM을 사용하며 암호문마다 임의의 12바이트 IV를 생성해 암호문 앞에 붙여 저장한다. (Base64(IV + 암호문 + 태그))
+ * 키는 aes.data-key(Base64, 32바이트)를 사용하고, 없으면 aes.secret-key의 SHA-256으로 파생한다.
+ */
+@Component
+public class DataEncryptor {
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey key;
+
+    public DataEncryptor(@Value("${aes.data-key:}") String dataKey,
+                         @Value("${aes.secret-key}") String secretKey) {
+        byte[] keyBytes = StringUtils.hasText(dataKey)
+                ? Base64.getDecoder().decode(dataKey)
+                : sha256(secretKey);
+        if (keyBytes.length != 32) {
+            throw new IllegalStateException("aes.data-key는 32바이트(Base64)여야 합니다.");
+        }
+        this.key = new SecretKeySpec(keyBytes, "AES");
+    }
+
+    /**
+     * 암호화 (null은 그대로 반환)
+     */
+    public String encrypt(String plainText) {
+        if (plainText == null) {
+            return null;
+        }
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            SecureRandomSource.get().nextBytes(iv);
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(IV_BYTES + encrypted.length)
+                    .put(iv)
+                    .put(encrypted)
+                    .array());
+        } catch (Exception e) {
+            throw new CodeGenerationException("데이터 암호화 중 오류가 발생했습니다");
+        }
+    }
+
+    /**
+     * 복호화 (null은 그대로 반환). 변조된 암호문은 태그 검증에 실패해 예외가 발생한다
+     */
+    public String decrypt(String encryptedText) {
+        if (encryptedText == null) {
+            return null;
+        }
+        try {
+            byte[] decoded = Base64.getDecoder().decode(encryptedText);
+            if (decoded.length <= IV_BYTES) {
+                throw new IllegalArgumentException("암호문 길이 오류");
+            }
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, decoded, 0, IV_BYTES));
+            byte[] decrypted = cipher.doFinal(decoded, IV_BYTES, decoded.length - IV_BYTES);
+            return new String(decrypted, StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new CodeGenerationException("데이터 복호화 중 오류가 발생했습니다");
+        }
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원 환경", e);
+        }
+    }
+}
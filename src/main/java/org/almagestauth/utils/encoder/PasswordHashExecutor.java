@@ -0,0 +1,125 @@
+package org.almagestauth.utils.encoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.exception.r500.CodeGenerationException;
+import org.almagestauth.exception.r503.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기.
+ * 해시 연산을 CPU 코어 수만큼의 전용 스레드에서 수행해 요청 스레드 전체가 해시 연산에 묶이지 않도록 한다.
+ * 대기열이 가득 차거나 대기 시간을 초과하면 즉시 ServiceBusyException(503)으로 거부한다.
+ * 시간 초과 시 cancel(true)는 이미 실행 중인 해시 연산을 멈추지 못하므로(BCrypt/Argon2는 인터럽트를 확인하지 않음)
+ * CPU 사용량은 대기 시간이 아니라 스레드 수와 대기열 크기로 제한된다.
+ */
+@Component
+@Slf4j
+public class PasswordHashExecutor {
+    private final AdaptivePasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Counter rejectedCounter;
+
+    public PasswordHashExecutor(AdaptivePasswordEncoder passwordEncoder,
+                                MeterRegistry meterRegistry,
+                                @Value("${password-hash.threads:0}") int threads,
+                                @Value("${password-hash.queue-capacity:64}") int queueCapacity,
+                                @Value("${password-hash.timeout-ms:3000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("password.hash.pool.size", executor, ThreadPoolExecutor::getPoolSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 암호화
+     */
+    public String encode(String plainPassword) {
+        return execute(() -> passwordEncoder.encode(plainPassword));
+    }
+
+    /**
+     * 비밀번호 일치 여부 확인
+     */
+    public boolean matches(String plainPassword, String hashedPassword) {
+        return execute(() -> passwordEncoder.matches(plainPassword, hashedPassword));
+    }
+
+    /**
+     * 저장된 해시가 현재 알고리즘/비용과 다른지 확인 (해시 연산 없음)
+     */
+    public boolean needsUpgrade(String hashedPassword) {
+        return passwordEncoder.upgradeEncoding(hashedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해시 대기열 초과: queue={}", executor.getQueue().size());
+            throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 남은 작업만 제거됨. 실행 중인 해시 연산은 끝까지 수행된다
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("비밀번호 해시 대기 시간 초과: timeout={}ms", timeoutMillis);
+            throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("요청 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CodeGenerationException("비밀번호 해시 처리 실패");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
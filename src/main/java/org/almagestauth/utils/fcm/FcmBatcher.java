@@ -0,0 +1,169 @@
+package org.almagestauth.utils.fcm;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 메시지 묶음 발송.
+ * window-ms 동안(또는 max-batch-size건까지) 모은 메시지를 FirebaseMessaging.sendEach 한 번으로 발송하고,
+ * 메시지별 결과(SendResponse)를 submit()이 반환한 CompletableFuture로 전달한다.
+ */
+@Component
+@Slf4j
+public class FcmBatcher {
+    // FCM sendEach 최대 메시지 수
+    private static final int FCM_MAX_BATCH_SIZE = 500;
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final ScheduledExecutorService flusher;
+    private final long windowMillis;
+    private final int maxBatchSize;
+
+    private final Object lock = new Object();
+    private List<PendingMessage> buffer = new ArrayList<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter batchCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    public FcmBatcher(FirebaseMessaging firebaseMessaging,
+                      MeterRegistry meterRegistry,
+                      @Value("${fcm-dispatch.batch.window-ms:50}") long windowMillis,
+                      @Value("${fcm-dispatch.batch.max-size:500}") int maxBatchSize) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.meterRegistry = meterRegistry;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = Math.min(Math.max(maxBatchSize, 1), FCM_MAX_BATCH_SIZE);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fcm-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.successCounter = Counter.builder("fcm.send")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("fcm.send")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.batchCounter = Counter.builder("fcm.batch.calls")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("fcm.batch.size")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 대기열에 등록
+     * @return 메시지별 발송 결과
+     */
+    public CompletableFuture<SendResponse> submit(Message message) {
+        CompletableFuture<SendResponse> future = new CompletableFuture<>();
+        List<PendingMessage> full = null;
+        boolean first;
+
+        synchronized (lock) {
+            first = buffer.isEmpty();
+            buffer.add(new PendingMessage(message, future));
+            if (buffer.size() >= maxBatchSize) {
+                full = swap();
+            }
+        }
+
+        try {
+            if (full != null) {
+                List<PendingMessage> batch = full;
+                flusher.execute(() -> send(batch));
+            } else if (first) {
+                // 첫 메시지 기준으로 window 후 발송
+                flusher.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void flush() {
+        List<PendingMessage> batch;
+        synchronized (lock) {
+            batch = swap();
+        }
+        send(batch);
+    }
+
+    private List<PendingMessage> swap() {
+        List<PendingMessage> batch = buffer;
+        buffer = new ArrayList<>();
+        return batch;
+    }
+
+    private void send(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        batchCounter.increment();
+        batchSizeSummary.record(batch.size());
+
+        List<Message> messages = new ArrayList<>(batch.size());
+        batch.forEach(pending -> messages.add(pending.message()));
+
+        try {
+            BatchResponse response = firebaseMessaging.sendEach(messages);
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < batch.size(); i++) {
+                SendResponse sendResponse = responses.get(i);
+                if (sendResponse.isSuccessful()) {
+                    successCounter.increment();
+                } else {
+                    failureCounter.increment();
+                    countError(sendResponse.getException());
+                }
+                batch.get(i).future().complete(sendResponse);
+            }
+            log.debug("FCM 묶음 발송: size={}, success={}, failure={}",
+                    batch.size(), response.getSuccessCount(), response.getFailureCount());
+        } catch (Exception e) {
+            failureCounter.increment(batch.size());
+            log.error("FCM 묶음 발송 실패: size={}, {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 오류 유형별 카운트 (fcm.send.error{code})
+     */
+    private void countError(FirebaseMessagingException e) {
+        String code = e != null && e.getMessagingErrorCode() != null ? e.getMessagingErrorCode().name() : "UNKNOWN";
+        meterRegistry.counter("fcm.send.error", "code", code).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        flusher.shutdown();
+    }
+
+    private record PendingMessage(Message message, CompletableFuture<SendResponse> future) {
+    }
+}
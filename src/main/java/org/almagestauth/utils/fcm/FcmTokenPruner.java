@@ -0,0 +1,109 @@
+package org.almagestauth.utils.fcm;
+
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.domain.entity.QMember;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료/무효 FCM 토큰 정리.
+ * 발송 결과가 토큰 영구 오류(UNREGISTERED, SENDER_ID_MISMATCH)인 토큰을 모아
+ * 주기적으로 한 번의 UPDATE로 member.firebaseToken을 비운다.
+ * INVALID_ARGUMENT는 메시지 내용(데이터 크기, 키 이름 등) 오류에도 반환되므로 등록 토큰 오류로 명시된 경우만 정리한다.
+ */
+@Component
+@Slf4j
+public class FcmTokenPruner {
+    private static final Set<MessagingErrorCode> PERMANENT_ERRORS = EnumSet.of(
+            MessagingErrorCode.UNREGISTERED,
+            MessagingErrorCode.SENDER_ID_MISMATCH);
+
+    // 등록 토큰 형식 오류 시 FCM 오류 메시지에 포함되는 문구
+    private static final String INVALID_TOKEN_MESSAGE = "registration token";
+
+    // 한 번에 정리할 최대 토큰 수
+    private static final int MAX_PRUNE_SIZE = 500;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> invalidTokens = ConcurrentHashMap.newKeySet();
+    private final Counter prunedCounter;
+
+    public FcmTokenPruner(JPAQueryFactory jpaQueryFactory,
+                          TransactionTemplate transactionTemplate,
+                          MeterRegistry meterRegistry) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.transactionTemplate = transactionTemplate;
+        this.prunedCounter = Counter.builder("fcm.token.pruned")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰을 더 이상 사용할 수 없는 오류인지 확인
+     */
+    public static boolean isPermanent(FirebaseMessagingException e) {
+        if (e == null || e.getMessagingErrorCode() == null) {
+            return false;
+        }
+        if (PERMANENT_ERRORS.contains(e.getMessagingErrorCode())) {
+            return true;
+        }
+        return e.getMessagingErrorCode() == MessagingErrorCode.INVALID_ARGUMENT
+                && e.getMessage() != null
+                && e.getMessage().toLowerCase(Locale.ROOT).contains(INVALID_TOKEN_MESSAGE);
+    }
+
+    /**
+     * 정리 대상 토큰 등록
+     */
+    public void markInvalid(String token) {
+        if (token != null) {
+            invalidTokens.add(token);
+        }
+    }
+
+    /**
+     * 등록된 토큰 일괄 정리
+     */
+    @Scheduled(fixedDelayString = "${fcm-dispatch.prune-interval-ms:5000}")
+    public void prune() {
+        if (invalidTokens.isEmpty()) {
+            return;
+        }
+
+        List<String> tokens = new ArrayList<>(MAX_PRUNE_SIZE);
+        for (String token : invalidTokens) {
+            if (tokens.size() >= MAX_PRUNE_SIZE) {
+                break;
+            }
+            tokens.add(token);
+        }
+
+        QMember qMember = QMember.member;
+        try {
+            Long updated = transactionTemplate.execute(status -> jpaQueryFactory.update(qMember)
+                    .setNull(qMember.firebaseToken)
+                    .where(qMember.firebaseToken.in(tokens))
+                    .execute());
+            tokens.forEach(invalidTokens::remove);
+            long count = updated != null ? updated : 0;
+            prunedCounter.increment(count);
+            log.info("무효 FCM 토큰 정리: requested={}, updated={}", tokens.size(), count);
+        } catch (Exception e) {
+            log.error("무효 FCM 토큰 정리 실패: {}", e.getMessage());
+        }
+    }
+}
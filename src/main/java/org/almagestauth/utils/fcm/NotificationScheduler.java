@@ -0,0 +1,86 @@
+package org.almagestauth.utils.fcm;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.exception.r503.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 지연 발송 전용 스케줄러.
+ * 응답 후 일정 시간 뒤 발송할 알림을 예약 작업으로 등록한다. (대기 중 스레드를 점유하지 않음)
+ * 예약 대기 건수가 max-pending을 넘으면 ServiceBusyException(503)으로 거부한다.
+ */
+@Component
+@Slf4j
+public class NotificationScheduler {
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final long delayMillis;
+    private final int maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter rejectedCounter;
+
+    public NotificationScheduler(MeterRegistry meterRegistry,
+                                 @Value("${fcm-dispatch.threads:2}") int threads,
+                                 @Value("${fcm-dispatch.delay-ms:300}") long delayMillis,
+                                 @Value("${fcm-dispatch.max-pending:1000}") int maxPending) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "fcm-dispatch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.delayMillis = delayMillis;
+        this.maxPending = maxPending;
+
+        this.rejectedCounter = Counter.builder("fcm.dispatch.rejected")
+                .register(meterRegistry);
+        Gauge.builder("fcm.dispatch.pending", pending, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 지연 발송 예약
+     */
+    public void schedule(Runnable task) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            reject();
+        }
+
+        try {
+            scheduler.schedule(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("알림 전송 중 오류 발생: {}", e.getMessage());
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            reject();
+        }
+    }
+
+    private void reject() {
+        rejectedCounter.increment();
+        log.warn("알림 발송 대기열 초과: pending={}", pending.get());
+        throw new ServiceBusyException("알림 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+}
@@ -0,0 +1,47 @@
+package org.almagestauth.utils.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 dead letter 조회/재발송용 Actuator 엔드포인트.
+ * GET /actuator/maildeadletters, POST /actuator/maildeadletters
+ * dead letter는 요청을 받은 노드의 메모리에만 보관된다. (노드별 조회, 재시작 시 유실)
+ * 유실되면 안 되는 메일은 OutboxService로 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "maildeadletters")
+public class MailDeadLetterEndpoint {
+    private final MailDispatcher mailDispatcher;
+
+    /**
+     * 본문(인증 코드, 임시 비밀번호)은 노출하지 않는다
+     */
+    @ReadOperation
+    public List<Map<String, Object>> deadLetters() {
+        return mailDispatcher.getDeadLetters().stream()
+                .map(letter -> {
+                    Map<String, Object> result = new LinkedHashMap<>();
+                    result.put("to", letter.message().to());
+                    result.put("subject", letter.message().subject());
+                    result.put("attempts", letter.attempts());
+                    result.put("error", letter.error());
+                    result.put("failedAt", letter.failedAt().toString());
+                    return result;
+                })
+                .toList();
+    }
+
+    @WriteOperation
+    public Map<String, Object> retry() {
+        return Map.of("requeued", mailDispatcher.retryDeadLetters());
+    }
+}
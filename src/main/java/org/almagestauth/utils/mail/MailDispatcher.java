@@ -0,0 +1,358 @@
+package org.almagestauth.utils.mail;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.exception.r503.ServiceBusyException;
+import org.almagestauth.utils.MailHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메일 비동기 발송.
+ * 요청 스레드는 대기열 등록 후 바로 반환하고, 전용 작업 스레드가 SMTP 발송을 수행한다.
+ * 작업 스레드는 대기 중인 메일을 batch-size 단위로 꺼내 하나의 SMTP 연결(SmtpTransportPool)로 발송한다.
+ * 실패 시 지수 백오프로 재시도하고, 최대 시도 횟수를 넘기면 dead letter로 보관한다.
+ * 트랜잭션 안에서 호출된 경우 커밋 후 대기열에 등록한다.
+ * 요청 시점에 대기열 자리를 예약하며(커밋 대기, 재시도 대기 포함), 발송 완료/최종 실패/롤백 시 반환한다.
+ * 예약 건수가 queue-capacity를 넘으면 등록 시점에 ServiceBusyException(503)으로 거부한다.
+ * dead letter는 이 노드의 메모리에만 보관되므로 재시작 시 유실된다.
+ */
+@Component
+@Slf4j
+public class MailDispatcher {
+    private final JavaMailSender mailSender;
+    private final SmtpTransportPool transportPool;
+    private final BlockingQueue<PendingMail> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final ScheduledExecutorService retryScheduler;
+    private final int threads;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int deadLetterSize;
+    private final int queueCapacity;
+    // 대기열 자리 예약 건수 (커밋 대기 + 대기열 + 발송 중 + 재시도 대기)
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private volatile boolean running = true;
+
+    // 최대 시도 횟수를 넘긴 메일 (최근 deadLetterSize건)
+    private final Deque<DeadLetter> deadLetters = new ArrayDeque<>();
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+    private final Counter rejectedCounter;
+
+    public MailDispatcher(JavaMailSender mailSender,
+                          SmtpTransportPool transportPool,
+                          MeterRegistry meterRegistry,
+                          @Value("${mail-dispatch.threads:2}") int threads,
+                          @Value("${mail-dispatch.queue-capacity:500}") int queueCapacity,
+                          @Value("${mail-dispatch.batch-size:20}") int batchSize,
+                          @Value("${mail-dispatch.max-attempts:3}") int maxAttempts,
+                          @Value("${mail-dispatch.backoff-ms:1000}") long backoffMillis,
+                          @Value("${mail-dispatch.dead-letter-size:100}") int deadLetterSize) {
+        this.mailSender = mailSender;
+        this.transportPool = transportPool;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.threads = threads;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.deadLetterSize = deadLetterSize;
+        this.queueCapacity = queueCapacity;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.sentCounter = Counter.builder("mail.dispatch")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("mail.dispatch")
+                .tag("result", "retry")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("mail.dispatch")
+                .tag("result", "dead")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("mail.dispatch")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        Gauge.builder("mail.dispatch.queue.size", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        Gauge.builder("mail.dispatch.active", activeCount, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("mail.dispatch.reserved", reserved, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 1; i <= threads; i++) {
+            Thread worker = new Thread(this::work, "mail-dispatch-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * 메일 발송 요청.
+     * 대기열 자리를 예약하지 못한 경우 ServiceBusyException(503)
+     */
+    public void dispatch(MailMessage message) {
+        if (!reserve()) {
+            rejectedCounter.increment();
+            log.warn("메일 발송 대기열 초과: to={}", message.to());
+            throw new ServiceBusyException("메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 롤백된 변경에 대한 메일이 발송되지 않도록 커밋 후 등록 (롤백 시 예약 반환)
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        submit(new PendingMail(message, 1));
+                    } else {
+                        release();
+                    }
+                }
+            });
+        } else {
+            submit(new PendingMail(message, 1));
+        }
+    }
+
+    /**
+     * 호출 스레드에서 즉시 발송 (아웃박스 발송용, 재시도는 호출 측에서 처리)
+     */
+    public void sendNow(MailMessage message) throws Exception {
+        MailHandler mailHandler = buildHandler(message);
+        if (!transportPool.isAvailable()) {
+            if (!mailHandler.send()) {
+                throw new MessagingException("SMTP 발송 실패");
+            }
+            sentCounter.increment();
+            return;
+        }
+
+        SmtpTransportPool.PooledTransport transport = transportPool.borrow();
+        try {
+            mailHandler.send(transport.getTransport());
+        } catch (Exception e) {
+            transportPool.invalidate(transport);
+            throw e;
+        }
+        transportPool.release(transport);
+        sentCounter.increment();
+    }
+
+    /**
+     * dead letter 조회 (본문 제외)
+     */
+    public List<DeadLetter> getDeadLetters() {
+        synchronized (deadLetters) {
+            return new ArrayList<>(deadLetters);
+        }
+    }
+
+    /**
+     * dead letter 재발송. 대기열 자리가 없는 건은 dead letter에 남겨둔다
+     * @return 재등록 건수
+     */
+    public int retryDeadLetters() {
+        List<DeadLetter> letters = new ArrayList<>();
+        synchronized (deadLetters) {
+            while (!deadLetters.isEmpty() && reserve()) {
+                letters.add(deadLetters.pollFirst());
+            }
+        }
+        letters.forEach(letter -> submit(new PendingMail(letter.message(), 1)));
+        return letters.size();
+    }
+
+    private boolean reserve() {
+        if (reserved.incrementAndGet() > queueCapacity) {
+            reserved.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private void release() {
+        reserved.decrementAndGet();
+    }
+
+    /**
+     * 예약된 자리로 대기열 등록 (예약 건수가 대기열 크기 이하이므로 실패하지 않아야 함)
+     */
+    private void submit(PendingMail pending) {
+        if (!queue.offer(pending)) {
+            rejectedCounter.increment();
+            deadLetter(pending, "발송 대기열 초과");
+        }
+    }
+
+    /**
+     * 작업 스레드: 대기 중인 메일을 batch-size 단위로 꺼내 발송
+     */
+    private void work() {
+        List<PendingMail> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingMail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                activeCount.incrementAndGet();
+                try {
+                    if (transportPool.isAvailable()) {
+                        sendBatch(batch);
+                    } else {
+                        batch.forEach(this::sendSingle);
+                    }
+                } finally {
+                    activeCount.decrementAndGet();
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("메일 발송 작업 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 하나의 SMTP 연결로 묶음 발송. 발송 실패 시 연결을 폐기하고 남은 메일은 새 연결로 발송
+     */
+    private void sendBatch(List<PendingMail> batch) {
+        SmtpTransportPool.PooledTransport transport = null;
+        try {
+            for (PendingMail pending : batch) {
+                try {
+                    if (transport == null) {
+                        transport = transportPool.borrow();
+                    }
+                    MailHandler mailHandler = buildHandler(pending.message());
+                    mailHandler.send(transport.getTransport());
+                    sentCounter.increment();
+                    release();
+                } catch (Exception e) {
+                    if (transport != null) {
+                        transportPool.invalidate(transport);
+                        transport = null;
+                    }
+                    fail(pending, e.getMessage());
+                }
+            }
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport);
+            }
+        }
+        log.debug("메일 묶음 발송 완료: size={}", batch.size());
+    }
+
+    /**
+     * JavaMailSender로 단건 발송 (연결 풀 사용 불가 시)
+     */
+    private void sendSingle(PendingMail pending) {
+        try {
+            if (buildHandler(pending.message()).send()) {
+                sentCounter.increment();
+                release();
+                return;
+            }
+            fail(pending, "SMTP 발송 실패");
+        } catch (Exception e) {
+            fail(pending, e.getMessage());
+        }
+    }
+
+    private MailHandler buildHandler(MailMessage message) throws Exception {
+        MailHandler mailHandler = new MailHandler(mailSender);
+        mailHandler.setTo(message.to());
+        mailHandler.setSubject(message.subject());
+        mailHandler.setText(message.text(), message.html());
+        return mailHandler;
+    }
+
+    /**
+     * 발송 실패 처리: 최대 시도 횟수 이내면 백오프 후 재등록(예약 유지), 아니면 dead letter
+     */
+    private void fail(PendingMail pending, String error) {
+        if (pending.attempt() >= maxAttempts) {
+            deadLetter(pending, error);
+            return;
+        }
+
+        retryCounter.increment();
+        long delay = backoffMillis * (1L << (pending.attempt() - 1));
+        log.warn("메일 발송 실패, 재시도 예정: to={}, attempt={}, delay={}ms, {}",
+                pending.message().to(), pending.attempt(), delay, error);
+        try {
+            retryScheduler.schedule(() -> submit(new PendingMail(pending.message(), pending.attempt() + 1)),
+                    delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            deadLetter(pending, error);
+        }
+    }
+
+    private void deadLetter(PendingMail pending, String error) {
+        release();
+        MailMessage message = pending.message();
+        deadCounter.increment();
+        log.error("메일 발송 최종 실패: to={}, subject={}, attempts={}, {}", message.to(), message.subject(), pending.attempt(), error);
+        synchronized (deadLetters) {
+            if (deadLetters.size() >= deadLetterSize) {
+                deadLetters.pollFirst();
+            }
+            deadLetters.addLast(new DeadLetter(message, pending.attempt(), error, LocalDateTime.now()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        retryScheduler.shutdown();
+        workers.forEach(Thread::interrupt);
+    }
+
+    private record PendingMail(MailMessage message, int attempt) {
+    }
+
+    /**
+     * 발송 최종 실패 메일
+     */
+    public record DeadLetter(MailMessage message, int attempts, String error, LocalDateTime failedAt) {
+    }
+}
@@ -0,0 +1,11 @@
+package org.almagestauth.utils.mail;
+
+/**
+ * 발송 대기 메일
+ * @param to 받는 사람 주소
+ * @param subject 제목
+ * @param text 본문
+ * @param html 본문 HTML 여부
+ */
+public record MailMessage(String to, String subject, String text, boolean html) {
+}
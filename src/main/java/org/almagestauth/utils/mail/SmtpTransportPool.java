@@ -0,0 +1,120 @@
+package org.almagestauth.utils.mail;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 인증된 SMTP 연결 풀.
+ * JavaMailSenderImpl의 Session/호스트/계정 정보로 연결을 열고, 메일마다 STARTTLS/인증을 반복하지 않도록 재사용한다.
+ * 유휴 시간이 idle-timeout을 넘었거나 끊긴 연결은 재연결한다.
+ */
+@Component
+@Slf4j
+public class SmtpTransportPool {
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<PooledTransport> idleTransports;
+    private final long idleTimeoutMillis;
+
+    public SmtpTransportPool(JavaMailSender mailSender,
+                             @Value("${mail-dispatch.threads:2}") int poolSize,
+                             @Value("${mail-dispatch.idle-timeout-ms:60000}") long idleTimeoutMillis) {
+        this.mailSender = mailSender instanceof JavaMailSenderImpl impl ? impl : null;
+        this.idleTransports = new ArrayBlockingQueue<>(Math.max(poolSize, 1));
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * 연결 풀 사용 가능 여부 (JavaMailSenderImpl이 아닌 경우 사용 불가)
+     */
+    public boolean isAvailable() {
+        return mailSender != null;
+    }
+
+    /**
+     * 연결 대여. 유휴 연결이 없거나 만료된 경우 새로 연결
+     */
+    public PooledTransport borrow() throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = idleTransports.poll()) != null) {
+            if (pooled.isUsable(idleTimeoutMillis)) {
+                return pooled;
+            }
+            close(pooled);
+        }
+        return connect();
+    }
+
+    /**
+     * 연결 반환. 풀이 가득 찬 경우 종료
+     */
+    public void release(PooledTransport pooled) {
+        pooled.touch();
+        if (!idleTransports.offer(pooled)) {
+            close(pooled);
+        }
+    }
+
+    /**
+     * 오류가 발생한 연결 폐기
+     */
+    public void invalidate(PooledTransport pooled) {
+        close(pooled);
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        log.debug("SMTP 연결 생성: host={}", mailSender.getHost());
+        return new PooledTransport(transport);
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.getTransport().close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        PooledTransport pooled;
+        while ((pooled = idleTransports.poll()) != null) {
+            close(pooled);
+        }
+    }
+
+    /**
+     * 풀에서 관리하는 SMTP 연결
+     */
+    public static class PooledTransport {
+        private final Transport transport;
+        private long lastUsed;
+
+        PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsed = System.currentTimeMillis();
+        }
+
+        public Transport getTransport() {
+            return transport;
+        }
+
+        void touch() {
+            lastUsed = System.currentTimeMillis();
+        }
+
+        boolean isUsable(long idleTimeoutMillis) {
+            return transport.isConnected() && System.currentTimeMillis() - lastUsed < idleTimeoutMillis;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.almagestauth.utils.otp;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.almagestauth.domain.entity.Member;
+import org.almagestauth.domain.entity.Otp;
+import org.almagestauth.domain.entity.QMember;
+import org.almagestauth.domain.entity.QOtp;
+import org.almagestauth.domain.repository.OtpRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * MariaDB(Otp 테이블) 기반 OTP 저장소 (기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "otp.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaOtpStore implements OtpStore {
+    private final OtpRepository otpRepository;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public Otp save(Otp otp) {
+        return otpRepository.save(otp);
+    }
+
+    @Override
+    public Optional<Otp> findByMemberId(String memberId) {
+        return otpRepository.findById(memberId);
+    }
+
+    /**
+     * Member(권한 fetch join)와 Otp를 한 번의 쿼리로 조회
+     */
+    @Override
+    public Optional<OtpTarget> findTarget(String memberId, String account) {
+        QMember qMember = QMember.member;
+        QOtp qOtp = QOtp.otp;
+
+        BooleanExpression condition = memberCondition(qMember, memberId, account);
+        if (condition == null) {
+            return Optional.empty();
+        }
+
+        Tuple result = jpaQueryFactory
+                .select(qMember, qOtp)
+                .from(qMember)
+                .leftJoin(qMember.role).fetchJoin()
+                .leftJoin(qOtp).on(qOtp.memberId.eq(qMember.id))
+                .where(condition)
+                .fetchOne();
+
+        if (result == null || result.get(qMember) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new OtpTarget(result.get(qMember), result.get(qOtp)));
+    }
+
+    /**
+     * 조건부 UPDATE 한 번으로 확인 및 사용 처리.
+     * 갱신된 행이 없을 때만 조회해 실패 사유를 판별한다.
+     */
+    @Override
+    @Transactional
+    public ConsumeResult consume(String memberId, String code) {
+        QOtp qOtp = QOtp.otp;
+        LocalDateTime now = LocalDateTime.now();
+
+        long updated = jpaQueryFactory.update(qOtp)
+                .set(qOtp.used, true)
+                .where(qOtp.memberId.eq(memberId),
+                        qOtp.code.eq(code),
+                        qOtp.used.isFalse(),
+                        qOtp.expireTime.after(now))
+                .execute();
+
+        if (updated > 0) {
+            return ConsumeResult.CONSUMED;
+        }
+
+        Optional<Otp> otp = otpRepository.findById(memberId);
+        if (otp.isEmpty()) {
+            return ConsumeResult.NOT_FOUND;
+        }
+        if (otp.get().isUsed()) {
+            return ConsumeResult.USED;
+        }
+        if (!code.equals(otp.get().getCode())) {
+            return ConsumeResult.MISMATCH;
+        }
+        return ConsumeResult.EXPIRED;
+    }
+
+    static BooleanExpression memberCondition(QMember qMember, String memberId, String account) {
+        if (memberId != null && !memberId.isEmpty()) {
+            return qMember.id.eq(memberId);
+        }
+        if (account != null && !account.isEmpty()) {
+            return qMember.account.eq(account);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,51 @@
+package org.almagestauth.utils.otp;
+
+import org.almagestauth.domain.entity.Member;
+import org.almagestauth.domain.entity.Otp;
+
+import java.util.Optional;
+
+/**
+ * OTP 저장소.
+ * otp.store 설정으로 jpa(기본) 또는 redis 구현을 선택한다.
+ */
+public interface OtpStore {
+
+    /**
+     * OTP 저장 (기존 OTP는 대체). 만료 시간은 otp.getExpireTime() 기준
+     */
+    Otp save(Otp otp);
+
+    /**
+     * 사용자 식별자로 OTP 조회
+     */
+    Optional<Otp> findByMemberId(String memberId);
+
+    /**
+     * 사용자 식별자 또는 계정으로 사용자(권한 포함)와 OTP를 함께 조회.
+     * memberId가 있으면 memberId, 없으면 account로 조회한다.
+     */
+    Optional<OtpTarget> findTarget(String memberId, String account);
+
+    /**
+     * OTP 코드 확인 및 사용 처리를 하나의 원자 연산으로 수행
+     */
+    ConsumeResult consume(String memberId, String code);
+
+    /**
+     * 조회된 사용자와 OTP (OTP가 없으면 otp는 null)
+     */
+    record OtpTarget(Member member, Otp otp) {
+    }
+
+    /**
+     * consume 결과
+     */
+    enum ConsumeResult {
+        CONSUMED,   // 확인 및 사용 처리 완료
+        NOT_FOUND,  // OTP 없음 (redis 저장소는 만료 포함)
+        USED,       // 이미 사용된 OTP
+        MISMATCH,   // 코드 불일치
+        EXPIRED     // 만료
+    }
+}
@@ -0,0 +1,174 @@
+package org.almagestauth.utils.otp;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.almagestauth.common.constants.RedisKeyConstants;
+import org.almagestauth.domain.entity.Member;
+import org.almagestauth.domain.entity.Otp;
+import org.almagestauth.domain.entity.QMember;
+import org.almagestauth.exception.r500.RedisSessionException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis 기반 OTP 저장소.
+ * OTP는 해시(code, used, created, expire)로 저장하고 만료 시간을 TTL로 설정한다.
+ * 확인 및 사용 처리는 Lua 스크립트로 원자적으로 수행한다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "otp.store", havingValue = "redis")
+public class RedisOtpStore implements OtpStore {
+    private final StringRedisTemplate redisTemplate;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    private static final String FIELD_CODE = "code";
+    private static final String FIELD_USED = "used";
+    private static final String FIELD_CREATED = "created";
+    private static final String FIELD_EXPIRE = "expire";
+
+    /**
+     * 확인 및 사용 처리 스크립트
+     * 0: 없음(만료 포함), 1: 사용 처리 완료, 2: 이미 사용됨, 3: 코드 불일치
+     */
+    private static final DefaultRedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "local values = redis.call('HMGET', KEYS[1], 'code', 'used') " +
+            "if not values[1] then " +
+            "  return 0 " +
+            "end " +
+            "if values[2] == '1' then " +
+            "  return 2 " +
+            "end " +
+            "if values[1] ~= ARGV[1] then " +
+            "  return 3 " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'used', '1') " +
+            "return 1",
+            Long.class);
+
+    /**
+     * 저장 스크립트 (기존 OTP 삭제, 필드 저장, TTL 설정을 한 번에 수행)
+     */
+    private static final DefaultRedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'code', ARGV[1], 'used', ARGV[2], 'created', ARGV[3], 'expire', ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "return 1",
+            Long.class);
+
+    @Override
+    public Otp save(Otp otp) {
+        String key = generateKey(otp.getMemberId());
+        long ttlMillis = Duration.between(LocalDateTime.now(), otp.getExpireTime()).toMillis();
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("OTP 만료 시간 오류");
+        }
+
+        try {
+            redisTemplate.execute(SAVE_SCRIPT, Collections.singletonList(key),
+                    otp.getCode(),
+                    otp.isUsed() ? "1" : "0",
+                    String.valueOf(toEpochMillis(otp.getCreatedTime())),
+                    String.valueOf(toEpochMillis(otp.getExpireTime())),
+                    String.valueOf(ttlMillis));
+        } catch (Exception e) {
+            log.error("OTP 저장 실패: memberId={}, {}", otp.getMemberId(), e.getMessage());
+            throw new RedisSessionException("OTP 저장 실패");
+        }
+        return otp;
+    }
+
+    @Override
+    public Optional<Otp> findByMemberId(String memberId) {
+        Map<Object, Object> fields;
+        try {
+            fields = redisTemplate.opsForHash().entries(generateKey(memberId));
+        } catch (Exception e) {
+            log.error("OTP 조회 실패: memberId={}, {}", memberId, e.getMessage());
+            throw new RedisSessionException("OTP 조회 실패");
+        }
+        if (fields == null || fields.get(FIELD_CODE) == null) {
+            return Optional.empty();
+        }
+
+        Otp otp = new Otp();
+        otp.setMemberId(memberId);
+        otp.setCode((String) fields.get(FIELD_CODE));
+        otp.setUsed("1".equals(fields.get(FIELD_USED)));
+        otp.setCreatedTime(toLocalDateTime((String) fields.get(FIELD_CREATED)));
+        otp.setExpireTime(toLocalDateTime((String) fields.get(FIELD_EXPIRE)));
+        return Optional.of(otp);
+    }
+
+    /**
+     * Member(권한 fetch join) 조회 후 Redis에서 OTP 조회
+     */
+    @Override
+    public Optional<OtpTarget> findTarget(String memberId, String account) {
+        QMember qMember = QMember.member;
+        BooleanExpression condition = JpaOtpStore.memberCondition(qMember, memberId, account);
+        if (condition == null) {
+            return Optional.empty();
+        }
+
+        Member member = jpaQueryFactory
+                .selectFrom(qMember)
+                .leftJoin(qMember.role).fetchJoin()
+                .where(condition)
+                .fetchOne();
+
+        if (member == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new OtpTarget(member, findByMemberId(member.getId()).orElse(null)));
+    }
+
+    @Override
+    public ConsumeResult consume(String memberId, String code) {
+        Long result;
+        try {
+            result = redisTemplate.execute(CONSUME_SCRIPT, Collections.singletonList(generateKey(memberId)), code);
+        } catch (Exception e) {
+            log.error("OTP 확인 실패: memberId={}, {}", memberId, e.getMessage());
+            throw new RedisSessionException("OTP 확인 실패");
+        }
+
+        if (result == null) {
+            return ConsumeResult.NOT_FOUND;
+        }
+        return switch (result.intValue()) {
+            case 1 -> ConsumeResult.CONSUMED;
+            case 2 -> ConsumeResult.USED;
+            case 3 -> ConsumeResult.MISMATCH;
+            default -> ConsumeResult.NOT_FOUND;
+        };
+    }
+
+    private String generateKey(String memberId) {
+        return RedisKeyConstants.OTP_PREFIX + memberId;
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(String epochMillis) {
+        if (epochMillis == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,166 @@
+package org.almagestauth.security.authentication;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.almagestauth.domain.entity.SignKey;
+import org.almagestauth.exception.r500.CodeGenerationException;
+import org.almagestauth.service.SignKeyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 서명/검증 키 선택.
+ * 서명 키는 서명 서비스의 가장 최근 키, 검증 키는 서명 서비스의 키만 등록되고
+ * 그 외 key id는 jwt.public-key로 검증되는지 확인한다.
+ */
+class SignKeyRingTest {
+    private static final String SIGNING_SERVICE = "almagest";
+
+    private KeyPair oldKey;
+    private KeyPair latestKey;
+    private KeyPair otherServiceKey;
+    private KeyPair defaultKey;
+
+    private List<SignKey> storedKeys;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        oldKey = generator.generateKeyPair();
+        latestKey = generator.generateKeyPair();
+        otherServiceKey = generator.generateKeyPair();
+        defaultKey = generator.generateKeyPair();
+
+        storedKeys = new ArrayList<>();
+        storedKeys.add(new SignKey(1L, encode(oldKey), SIGNING_SERVICE));
+        storedKeys.add(new SignKey(2L, encode(latestKey), SIGNING_SERVICE));
+        storedKeys.add(new SignKey(3L, encode(otherServiceKey), "other"));
+
+        verifiedTokenCache = new VerifiedTokenCache(true, 100);
+    }
+
+    @Test
+    void signsWithLatestKeyOfSigningService() {
+        SignKeyRing ring = newRing();
+
+        assertEquals("2", ring.getSigningKeyId());
+        assertEquals(latestKey.getPrivate(), ring.getSigningKey());
+    }
+
+    @Test
+    void verifiesOnlySigningServiceKeysById() {
+        SignKeyRing ring = newRing();
+
+        assertEquals(oldKey.getPublic(), ring.getPublicKey("1"));
+        assertEquals(latestKey.getPublic(), ring.getPublicKey("2"));
+    }
+
+    @Test
+    void otherServiceOrUnknownKeyIdFallsBackToDefaultPublicKey() {
+        SignKeyRing ring = newRing();
+
+        assertEquals(defaultKey.getPublic(), ring.getPublicKey("3"));
+        assertEquals(defaultKey.getPublic(), ring.getPublicKey("999"));
+        assertEquals(defaultKey.getPublic(), ring.getPublicKey(null));
+    }
+
+    @Test
+    void failsWithoutSigningKey() {
+        storedKeys.removeIf(key -> SIGNING_SERVICE.equals(key.getService()));
+        SignKeyRing ring = new SignKeyRing(signKeyService(), verifiedTokenCache);
+        ReflectionTestUtils.setField(ring, "publicKey", encodePublic(defaultKey));
+
+        assertThrows(CodeGenerationException.class, ring::init);
+    }
+
+    @Test
+    void reloadPicksUpNewKeyAndClearsTokenCache() {
+        SignKeyRing ring = newRing();
+        AtomicInteger verifications = new AtomicInteger();
+        VerifiedToken token = new VerifiedToken("token", claimsExpiringIn(60_000));
+        verifiedTokenCache.getOrVerify("token", t -> {
+            verifications.incrementAndGet();
+            return token;
+        });
+
+        storedKeys.add(new SignKey(4L, encode(otherServiceKey), SIGNING_SERVICE));
+        Set<String> keyIds = ring.reload();
+
+        assertEquals(Set.of("1", "2", "4"), keyIds);
+        assertEquals("4", ring.getSigningKeyId());
+        verifiedTokenCache.getOrVerify("token", t -> {
+            verifications.incrementAndGet();
+            return token;
+        });
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void reloadFailureKeepsCurrentKeys() {
+        SignKeyRing ring = newRing();
+
+        storedKeys.clear();
+        Set<String> keyIds = ring.reload();
+
+        assertEquals(Set.of("1", "2"), keyIds);
+        assertEquals("2", ring.getSigningKeyId());
+    }
+
+    private SignKeyRing newRing() {
+        SignKeyRing ring = new SignKeyRing(signKeyService(), verifiedTokenCache);
+        ReflectionTestUtils.setField(ring, "publicKey", encodePublic(defaultKey));
+        ring.init();
+        return ring;
+    }
+
+    /**
+     * DB 대신 storedKeys를 서비스 이름으로 조회하는 SignKeyService
+     */
+    private SignKeyService signKeyService() {
+        return new SignKeyService(null) {
+            @Override
+            public List<SignKey> getSignKeys(String serviceName) {
+                return storedKeys.stream()
+                        .filter(key -> serviceName.equals(key.getService()))
+                        .toList();
+            }
+
+            @Override
+            public SignKey getLatestSignKey(String serviceName) {
+                return storedKeys.stream()
+                        .filter(key -> serviceName.equals(key.getService()))
+                        .reduce((first, second) -> second.getId() > first.getId() ? second : first)
+                        .orElse(null);
+            }
+        };
+    }
+
+    private static Claims claimsExpiringIn(long millis) {
+        Claims claims = Jwts.claims();
+        claims.setExpiration(new Date(System.currentTimeMillis() + millis));
+        return claims;
+    }
+
+    private static String encode(KeyPair keyPair) {
+        return Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded());
+    }
+
+    private static String encodePublic(KeyPair keyPair) {
+        return Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+    }
+}
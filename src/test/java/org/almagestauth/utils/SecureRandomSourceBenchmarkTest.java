@@ -0,0 +1,115 @@
+package org.almagestauth.utils;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 코드 생성 동시 실행 지연 시간 측정.
+ * 여러 스레드가 동시에 OTP/검증 문자열/임시 비밀번호를 생성할 때의 호출별 지연 분포(p50/p99/p99.9/max)를 출력하고,
+ * 꼬리 지연이 차단(/dev/random 대기) 수준에 이르지 않는지 확인한다.
+ * 실행 시간 기반 검증이라 기본 test 작업에서는 제외되며 ./gradlew benchmark로 실행한다.
+ */
+@Tag("benchmark")
+class SecureRandomSourceBenchmarkTest {
+    private static final Logger log = LoggerFactory.getLogger(SecureRandomSourceBenchmarkTest.class);
+
+    // 코어 수의 2배 (과도한 스레드는 생성 지연이 아니라 스케줄링 대기를 측정하게 됨)
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final int WARMUP_PER_THREAD = 200;
+    private static final int CALLS_PER_THREAD = 2_000;
+
+    // 차단 소스 대기(수 초)와 구분되는 상한. 공유 CI 환경의 스케줄링 지연을 감안해 여유 있게 설정
+    private static final long P99_LIMIT_MICROS = 100_000;
+    private static final long MAX_LIMIT_MICROS = 2_000_000;
+
+    @Test
+    void otpCodeTailLatency() throws Exception {
+        assertTailLatency("generateOtpCode", GenerateCodeUtil::generateOtpCode);
+    }
+
+    @Test
+    void tokenVerifyStringTailLatency() throws Exception {
+        assertTailLatency("generateTokenVerifyString", GenerateCodeUtil::generateTokenVerifyString);
+    }
+
+    @Test
+    void randomPasswordTailLatency() throws Exception {
+        assertTailLatency("generateRandomPassword", GenerateCodeUtil::generateRandomPassword);
+    }
+
+    @Test
+    void generatedValuesHaveExpectedShape() {
+        for (int i = 0; i < 1_000; i++) {
+            int otp = Integer.parseInt(GenerateCodeUtil.generateOtpCode());
+            assertTrue(otp >= 1000 && otp <= 9999);
+            assertEquals(10, GenerateCodeUtil.generateRandomPassword().length());
+            assertEquals(43, GenerateCodeUtil.generateTokenVerifyString().length());
+        }
+    }
+
+    private void assertTailLatency(String name, Supplier<String> generator) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    // 스레드별 인스턴스 초기화(시드) 비용은 측정에서 제외
+                    for (int i = 0; i < WARMUP_PER_THREAD; i++) {
+                        generator.get();
+                    }
+                    start.await();
+                    long[] samples = new long[CALLS_PER_THREAD];
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        long begin = System.nanoTime();
+                        generator.get();
+                        samples[i] = System.nanoTime() - begin;
+                    }
+                    return samples;
+                }));
+            }
+            start.countDown();
+
+            long[] all = new long[THREADS * CALLS_PER_THREAD];
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] samples = future.get(60, TimeUnit.SECONDS);
+                System.arraycopy(samples, 0, all, offset, samples.length);
+                offset += samples.length;
+            }
+            Arrays.sort(all);
+
+            long p50 = percentileMicros(all, 50.0);
+            long p99 = percentileMicros(all, 99.0);
+            long p999 = percentileMicros(all, 99.9);
+            long max = all[all.length - 1] / 1_000;
+            log.info("{} threads={} calls={} p50={}us p99={}us p99.9={}us max={}us",
+                    name, THREADS, all.length, p50, p99, p999, max);
+
+            assertTrue(p99 < P99_LIMIT_MICROS, name + " p99 " + p99 + "us");
+            assertTrue(max < MAX_LIMIT_MICROS, name + " max " + max + "us");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long percentileMicros(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000;
+    }
+}
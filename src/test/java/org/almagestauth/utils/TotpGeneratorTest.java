@@ -0,0 +1,101 @@
+package org.almagestauth.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TOTP 생성/검증.
+ * RFC 6238 부록 B의 SHA1 테스트 벡터(비밀키 "12345678901234567890")를 6자리로 자른 값으로 검증한다.
+ */
+class TotpGeneratorTest {
+    // "12345678901234567890"의 Base32
+    private static final String RFC_SECRET = "GEZDGNBVGY3TQOJQGEZDGNBVGY3TQOJQ";
+    private static final String MEMBER_ID = "member-1";
+
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        redisService = mock(RedisService.class);
+        when(redisService.markTotpStepUsed(anyString(), anyLong(), anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void rfc6238Vectors() {
+        TotpGenerator generator = new TotpGenerator(redisService, 0);
+
+        assertTrue(generator.verify(MEMBER_ID, RFC_SECRET, "287082", 59_000L));
+        assertTrue(generator.verify(MEMBER_ID, RFC_SECRET, "081804", 1_111_111_109_000L));
+        assertTrue(generator.verify(MEMBER_ID, RFC_SECRET, "050471", 1_111_111_111_000L));
+        assertTrue(generator.verify(MEMBER_ID, RFC_SECRET, "005924", 1_234_567_890_000L));
+        assertTrue(generator.verify(MEMBER_ID, RFC_SECRET, "279037", 2_000_000_000_000L));
+        assertTrue(generator.verify(MEMBER_ID, RFC_SECRET, "353130", 20_000_000_000_000L));
+    }
+
+    @Test
+    void rejectsWrongOrMalformedCode() {
+        TotpGenerator generator = new TotpGenerator(redisService, 0);
+
+        assertFalse(generator.verify(MEMBER_ID, RFC_SECRET, "287083", 59_000L));
+        assertFalse(generator.verify(MEMBER_ID, RFC_SECRET, "28708", 59_000L));
+        assertFalse(generator.verify(MEMBER_ID, RFC_SECRET, null, 59_000L));
+        assertFalse(generator.verify(MEMBER_ID, null, "287082", 59_000L));
+        verify(redisService, never()).markTotpStepUsed(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    void windowAllowsAdjacentStepOnly() {
+        TotpGenerator strict = new TotpGenerator(redisService, 0);
+        TotpGenerator lenient = new TotpGenerator(redisService, 1);
+
+        // 59초의 코드(1단계)를 다음 단계(60~89초)에 입력
+        assertFalse(strict.verify(MEMBER_ID, RFC_SECRET, "287082", 75_000L));
+        assertTrue(lenient.verify(MEMBER_ID, RFC_SECRET, "287082", 75_000L));
+        // 두 단계 뒤(90~119초)는 허용 오차 밖
+        assertFalse(lenient.verify(MEMBER_ID, RFC_SECRET, "287082", 95_000L));
+    }
+
+    @Test
+    void rejectsReplayedStep() {
+        TotpGenerator generator = new TotpGenerator(redisService, 1);
+        when(redisService.markTotpStepUsed(eq(MEMBER_ID), eq(1L), anyLong())).thenReturn(true, false);
+
+        assertTrue(generator.verify(MEMBER_ID, RFC_SECRET, "287082", 59_000L));
+        assertFalse(generator.verify(MEMBER_ID, RFC_SECRET, "287082", 59_000L));
+        // 사용 기록은 해당 단계 코드가 유효한 전체 구간 동안 보관 ((2 * window + 1) * 30초)
+        verify(redisService, times(2)).markTotpStepUsed(MEMBER_ID, 1L, 90L);
+    }
+
+    @Test
+    void replayTtlCoversWholeAcceptanceRange() {
+        TotpGenerator generator = new TotpGenerator(redisService, 2);
+
+        // 1단계 코드는 3단계(90~119초)까지 허용되므로 최초 사용 시점과 무관하게 150초 보관
+        assertTrue(generator.verify(MEMBER_ID, RFC_SECRET, "287082", 0L));
+        assertTrue(generator.verify("member-2", RFC_SECRET, "287082", 119_000L));
+        verify(redisService).markTotpStepUsed(MEMBER_ID, 1L, 150L);
+        verify(redisService).markTotpStepUsed("member-2", 1L, 150L);
+    }
+
+    @Test
+    void generatedSecretRoundTripsThroughProvisioningUri() {
+        TotpGenerator generator = new TotpGenerator(redisService, 1);
+        String secret = generator.generateSecret();
+
+        assertEquals(32, secret.length());
+        assertTrue(secret.matches("[A-Z2-7]+"));
+        assertTrue(generator.provisioningUri("user@almagest.io", secret).startsWith("otpauth://totp/Almagest%3Auser%40almagest.io?secret=" + secret));
+    }
+}